@@ -0,0 +1,42 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Cost of building a maze from scratch with a fixed seed
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+    static final long SEED = 42L;
+
+    @Param({"15", "64", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"prim", "kruskal", "eller", "tiles"})
+    public String generator;
+
+    private MazeGenerator mazeGenerator;
+
+    @Setup
+    public void setUp() {
+        switch (generator) {
+            case "kruskal": mazeGenerator = new KruskalGenerator(); break;
+            case "eller": mazeGenerator = new EllerGenerator(); break;
+            case "tiles": mazeGenerator = new ParallelTileGenerator(); break;
+            default: mazeGenerator = new PrimGenerator();
+        }
+    }
+
+    @Benchmark
+    public void generate(Blackhole bh) {
+        MazeGraph maze = new MazeGraph(size, size, true);
+        maze.generate(mazeGenerator, SEED);
+        bh.consume(maze);
+    }
+}
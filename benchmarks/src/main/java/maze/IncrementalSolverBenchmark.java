@@ -0,0 +1,46 @@
+package maze;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// Edit one cell's terrain, then answer the default query again: D* Lite repairs
+// its previous plan, Dijkstra starts over
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IncrementalSolverBenchmark {
+    private static final Cell.TerrainType[] TERRAINS = Cell.TerrainType.values();
+
+    @Param({"64", "256", "1024"})
+    public int size;
+
+    @Param({"DSTAR_LITE", "DIJKSTRA"})
+    public String algorithm;
+
+    private MazeGraph maze;
+    private MazeSolver solver;
+    private SearchContext context;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new MazeGraph(size, size, true);
+        maze.generateMazeWithPrim(GenerationBenchmark.SEED);
+        solver = "DSTAR_LITE".equals(algorithm) ? new DStarLiteSolver(maze) : new DijkstraSolver(maze);
+        context = SearchContext.forMaze(maze);
+        random = new Random(GenerationBenchmark.SEED);
+        solver.solve(context);
+    }
+
+    @Benchmark
+    public int editAndSolve() {
+        maze.setTerrain(random.nextInt(maze.getCellCount()), TERRAINS[random.nextInt(TERRAINS.length)]);
+        solver.solve(context);
+        return context.getStepCount();
+    }
+}
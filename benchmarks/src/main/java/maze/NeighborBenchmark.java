@@ -0,0 +1,45 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// One full sweep of getNeighbors over every cell, list-returning vs allocation-free
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NeighborBenchmark {
+    @Param({"15", "64", "256", "1024", "4096"})
+    public int size;
+
+    private MazeGraph maze;
+    private final int[] neighbors = new int[4];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = new MazeGraph(size, size, true);
+        maze.generateMazeWithPrim(GenerationBenchmark.SEED);
+    }
+
+    @Benchmark
+    public void cellList(Blackhole bh) {
+        for (int row = 0; row < maze.getRows(); row++) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                bh.consume(maze.getNeighbors(maze.getCell(row, col)));
+            }
+        }
+    }
+
+    @Benchmark
+    public int indexArray() {
+        int total = 0;
+        for (int cell = 0; cell < maze.getCellCount(); cell++) {
+            total += maze.getNeighbors(cell, neighbors);
+        }
+        return total;
+    }
+}
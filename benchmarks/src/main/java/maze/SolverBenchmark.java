@@ -0,0 +1,52 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// One default query (top-left corner to the finish points) per operation, reusing
+// the search context the way a long-running service would
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"15", "64", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"BFS", "DFS", "DIJKSTRA", "ASTAR", "CORRIDOR", "JUMP", "HPA", "TREE"})
+    public String algorithm;
+
+    private MazeSolver solver;
+    private SearchContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MazeGraph maze = new MazeGraph(size, size, true);
+        maze.generateMazeWithPrim(GenerationBenchmark.SEED);
+        solver = createSolver(algorithm, maze);
+        context = SearchContext.forMaze(maze);
+    }
+
+    static MazeSolver createSolver(String algorithm, MazeGraph maze) {
+        switch (algorithm) {
+            case "BFS": return new BFSSolver(maze);
+            case "DFS": return new DFSSolver(maze);
+            case "DIJKSTRA": return new DijkstraSolver(maze);
+            case "ASTAR": return new AStarSolver(maze);
+            case "CORRIDOR": return new CorridorSolver(maze);
+            case "JUMP": return new CorridorSolver(maze, CorridorSolver.Mode.JUMP);
+            case "HPA": return new HierarchicalSolver(maze);
+            case "TREE": return new TreeSolver(maze);
+            default: throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    @Benchmark
+    public int solve() {
+        solver.solve(context);
+        return context.getStepCount();
+    }
+}
@@ -0,0 +1,108 @@
+package maze;
+
+class AStarSolver extends MazeSolver {
+    enum Heuristic {
+        // Distance to the nearest goal cell
+        MANHATTAN,
+        // Exact cost from the maze's GoalDistanceField; used for queries towards the
+        // finish points. Other goal sets fall back to Manhattan distance scaled by the
+        // cheapest terrain cost, which stays admissible (zero while DEFAULT costs 0).
+        GOAL_FIELD
+    }
+
+    private final FrontierType frontierType;
+    private final Heuristic heuristic;
+
+    public AStarSolver(MazeGraph maze) {
+        this(maze, FrontierType.LAZY_BINARY);
+    }
+
+    public AStarSolver(MazeGraph maze, FrontierType frontierType) {
+        this(maze, frontierType, Heuristic.MANHATTAN);
+    }
+
+    public AStarSolver(MazeGraph maze, FrontierType frontierType, Heuristic heuristic) {
+        super(maze);
+        this.frontierType = frontierType;
+        this.heuristic = heuristic;
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        PriorityFrontier pq = ctx.priorityFrontier(frontierType);
+        int[] neighbors = ctx.neighbors;
+        GoalDistanceField field = heuristic == Heuristic.GOAL_FIELD && GoalFieldSolver.isFinishQuery(maze, ctx, goals)
+                ? maze.getGoalDistanceField() : null;
+
+        if (field != null && field.getDistance(start) == GoalDistanceField.UNREACHABLE) {
+            return false;
+        }
+
+        ctx.reach(start, -1, 0);
+        // NEW: Calculate heuristic to nearest finish point
+        pq.offer(estimate(field, start, goals), start);
+
+        while (!pq.isEmpty()) {
+            int cell = pq.poll();
+
+            if (ctx.isVisited(cell)) {
+                ctx.countStalePop();
+                continue;
+            }
+
+            ctx.markVisited(cell);
+            ctx.addStep(cell);
+
+            // NEW: Check if any goal cell is reached
+            if (ctx.isGoal(cell)) {
+                ctx.setGoal(cell);
+                return true;
+            }
+
+            int count = maze.getNeighbors(cell, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!ctx.isVisited(neighbor)) {
+                    int tentativeG = ctx.getDistance(cell) + maze.getCost(neighbor);
+
+                    if (tentativeG < ctx.getDistance(neighbor)) {
+                        ctx.reach(neighbor, cell, tentativeG);
+                        // NEW: Calculate heuristic to nearest finish point
+                        int h = estimate(field, neighbor, goals);
+                        if (h != GoalDistanceField.UNREACHABLE) {
+                            pq.offer(tentativeG + h, neighbor);
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private int estimate(GoalDistanceField field, int cell, int[] goals) {
+        if (field != null) {
+            return field.getDistance(cell);
+        }
+        if (heuristic == Heuristic.GOAL_FIELD) {
+            return MazeGraph.MIN_TERRAIN_COST == 0 ? 0 : MazeGraph.MIN_TERRAIN_COST * heuristicToNearestGoal(cell, goals);
+        }
+        return heuristicToNearestGoal(cell, goals);
+    }
+
+    // NEW: Calculate Manhattan distance to nearest goal
+    private int heuristicToNearestGoal(int current, int[] goals) {
+        int cols = maze.getCols();
+        int row = current / cols;
+        int col = current - row * cols;
+        int minDistance = Integer.MAX_VALUE;
+        for (int goal : goals) {
+            int goalRow = goal / cols;
+            int goalCol = goal - goalRow * cols;
+            int distance = Math.abs(row - goalRow) + Math.abs(col - goalCol);
+            minDistance = Math.min(minDistance, distance);
+        }
+        return minDistance;
+    }
+}
@@ -0,0 +1,43 @@
+package maze;
+
+class BFSSolver extends MazeSolver {
+
+    public BFSSolver(MazeGraph maze) {
+        super(maze);
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        IntQueue queue = ctx.queue();
+        int[] neighbors = ctx.neighbors;
+
+        queue.offer(start);
+        ctx.markVisited(start);
+        ctx.addStep(start);
+        ctx.reach(start, -1, 0);
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+
+            // NEW: Check if any goal cell is reached
+            if (ctx.isGoal(current)) {
+                ctx.setGoal(current);
+                return true;
+            }
+
+            int count = maze.getNeighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!ctx.isVisited(neighbor)) {
+                    ctx.markVisited(neighbor);
+                    queue.offer(neighbor);
+                    ctx.reach(neighbor, current, ctx.getDistance(current) + 1);
+                    ctx.addStep(neighbor);
+                }
+            }
+        }
+
+        return false;
+    }
+}
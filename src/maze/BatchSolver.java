@@ -0,0 +1,111 @@
+package maze;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+// Runs many queries against one maze in parallel. The solver is shared by every
+// task (solvers are stateless); each running task borrows a SearchContext from a
+// pool, so the number of contexts tracks the number of threads actually in use
+// rather than the number of queries.
+class BatchSolver implements AutoCloseable {
+    private final MazeSolver solver;
+    private final MazeGraph maze;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final ConcurrentLinkedQueue<SearchContext> contexts = new ConcurrentLinkedQueue<>();
+
+    public BatchSolver(MazeSolver solver, ExecutorService executor) {
+        this(solver, executor, false);
+    }
+
+    private BatchSolver(MazeSolver solver, ExecutorService executor, boolean ownsExecutor) {
+        this.solver = solver;
+        this.maze = solver.maze;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    public static BatchSolver withForkJoinPool(MazeSolver solver, int parallelism) {
+        return new BatchSolver(solver, new ForkJoinPool(parallelism), true);
+    }
+
+    public static BatchSolver withVirtualThreads(MazeSolver solver) {
+        return new BatchSolver(solver, Executors.newVirtualThreadPerTaskExecutor(), true);
+    }
+
+    public Report solveAll(List<MazeQuery> queries) throws InterruptedException {
+        List<Callable<SolveResult>> tasks = new ArrayList<>(queries.size());
+        for (MazeQuery query : queries) {
+            tasks.add(() -> solveOne(query));
+        }
+
+        long startTime = System.nanoTime();
+        List<Future<SolveResult>> futures = executor.invokeAll(tasks);
+        long elapsed = System.nanoTime() - startTime;
+
+        List<SolveResult> results = new ArrayList<>(futures.size());
+        for (Future<SolveResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Query failed", e.getCause());
+            }
+        }
+        return new Report(results, elapsed);
+    }
+
+    private SolveResult solveOne(MazeQuery query) {
+        SearchContext ctx = contexts.poll();
+        if (ctx == null) {
+            ctx = SearchContext.forMaze(maze);
+        }
+        try {
+            return solver.solve(ctx, query);
+        } finally {
+            contexts.offer(ctx);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    static class Report {
+        final List<SolveResult> results;
+        final long elapsedNanos;
+
+        Report(List<SolveResult> results, long elapsedNanos) {
+            this.results = results;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getSolvedCount() {
+            int solved = 0;
+            for (SolveResult result : results) {
+                if (result.found) solved++;
+            }
+            return solved;
+        }
+
+        public long getTotalExplored() {
+            long explored = 0;
+            for (SolveResult result : results) {
+                explored += result.explored;
+            }
+            return explored;
+        }
+
+        public double getQueriesPerSecond() {
+            return elapsedNanos == 0 ? 0 : results.size() * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d queries (%d solved) in %.1f ms, %.0f queries/s, %d cells explored",
+                    results.size(), getSolvedCount(), elapsedNanos / 1e6, getQueriesPerSecond(), getTotalExplored());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package maze;
+
+// Weighted bidirectional search: A* forward from the start and backward from all
+// goals, using the symmetric potential (hForward - hBackward) / 2 so both halves
+// stay consistent. Keys are doubled to keep them integral, and the search stops
+// once the two smallest keys together can no longer beat the best meeting.
+//
+// The heuristic is Manhattan distance times the cheapest terrain cost, the
+// largest weight that stays admissible. Returns the same optimal cost as
+// DijkstraSolver.
+class BidirectionalAStarSolver extends BidirectionalSolver {
+    public BidirectionalAStarSolver(MazeGraph maze) {
+        super(maze);
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        SearchContext backward = ctx.companion();
+        backward.begin(start);
+        PriorityFrontier forwardQueue = ctx.priorityFrontier(FrontierType.INDEXED_BINARY);
+        PriorityFrontier backwardQueue = backward.priorityFrontier(FrontierType.INDEXED_BINARY);
+
+        ctx.reach(start, -1, 0);
+        if (ctx.isGoal(start)) {
+            ctx.addStep(start);
+            ctx.setGoal(start);
+            return true;
+        }
+        forwardQueue.offer(forwardKey(start, 0, start, goals), start);
+
+        for (int goal : goals) {
+            if (!backward.isReached(goal)) {
+                backward.reach(goal, -1, 0);
+                backwardQueue.offer(backwardKey(goal, 0, start, goals), goal);
+            }
+        }
+
+        int[] neighbors = ctx.neighbors;
+        int best = Integer.MAX_VALUE;
+        int meet = -1;
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            if (meet != -1 && (long) forwardQueue.peekKey() + backwardQueue.peekKey() >= 2L * best) {
+                break;
+            }
+
+            if (forwardQueue.size() <= backwardQueue.size()) {
+                int cell = forwardQueue.poll();
+                ctx.markVisited(cell);
+                ctx.addStep(cell);
+
+                int count = maze.getNeighbors(cell, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+                    if (ctx.isVisited(neighbor)) continue;
+
+                    int newDist = ctx.getDistance(cell) + maze.getCost(neighbor);
+                    if (newDist < ctx.getDistance(neighbor)) {
+                        ctx.reach(neighbor, cell, newDist);
+                        forwardQueue.offer(forwardKey(neighbor, newDist, start, goals), neighbor);
+                        if (backward.isReached(neighbor) && newDist + backward.getDistance(neighbor) < best) {
+                            best = newDist + backward.getDistance(neighbor);
+                            meet = neighbor;
+                        }
+                    }
+                }
+            } else {
+                int cell = backwardQueue.poll();
+                backward.markVisited(cell);
+                ctx.addStep(cell);
+
+                // Walking neighbor -> cell enters cell, so the edge costs cell's terrain
+                int newDist = backward.getDistance(cell) + maze.getCost(cell);
+                int count = maze.getNeighbors(cell, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+                    if (backward.isVisited(neighbor)) continue;
+
+                    if (newDist < backward.getDistance(neighbor)) {
+                        backward.reach(neighbor, cell, newDist);
+                        backwardQueue.offer(backwardKey(neighbor, newDist, start, goals), neighbor);
+                        if (ctx.isReached(neighbor) && newDist + ctx.getDistance(neighbor) < best) {
+                            best = newDist + ctx.getDistance(neighbor);
+                            meet = neighbor;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (meet == -1) {
+            return false;
+        }
+        joinPaths(ctx, backward, meet);
+        return true;
+    }
+
+    private int forwardKey(int cell, int dist, int start, int[] goals) {
+        return 2 * dist + heuristicToGoals(cell, goals) - heuristicToStart(cell, start);
+    }
+
+    private int backwardKey(int cell, int dist, int start, int[] goals) {
+        return 2 * dist + heuristicToStart(cell, start) - heuristicToGoals(cell, goals);
+    }
+
+    private int heuristicToStart(int cell, int start) {
+        return MazeGraph.MIN_TERRAIN_COST * manhattan(cell, start);
+    }
+
+    private int heuristicToGoals(int cell, int[] goals) {
+        if (MazeGraph.MIN_TERRAIN_COST == 0) {
+            return 0;
+        }
+        int min = Integer.MAX_VALUE;
+        for (int goal : goals) {
+            min = Math.min(min, manhattan(cell, goal));
+        }
+        return MazeGraph.MIN_TERRAIN_COST * min;
+    }
+
+    private int manhattan(int a, int b) {
+        int cols = maze.getCols();
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+}
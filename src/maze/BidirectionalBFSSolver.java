@@ -0,0 +1,84 @@
+package maze;
+
+// Breadth-first search from the start and from all goals at once, expanding one
+// full layer of the smaller frontier at a time. Finds a path with the fewest
+// steps, like BFSSolver, while exploring far fewer cells on large mazes.
+class BidirectionalBFSSolver extends BidirectionalSolver {
+
+    public BidirectionalBFSSolver(MazeGraph maze) {
+        super(maze);
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        SearchContext backward = ctx.companion();
+        backward.begin(start);
+        IntQueue forwardQueue = ctx.queue();
+        IntQueue backwardQueue = backward.queue();
+
+        ctx.markVisited(start);
+        ctx.reach(start, -1, 0);
+        ctx.addStep(start);
+        if (ctx.isGoal(start)) {
+            ctx.setGoal(start);
+            return true;
+        }
+        forwardQueue.offer(start);
+
+        for (int goal : goals) {
+            if (!backward.isVisited(goal)) {
+                backward.markVisited(goal);
+                backward.reach(goal, -1, 0);
+                ctx.addStep(goal);
+                backwardQueue.offer(goal);
+            }
+        }
+
+        int meet = -1;
+        while (meet == -1 && !forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            if (forwardQueue.size() <= backwardQueue.size()) {
+                meet = expandLayer(ctx, ctx, backward, forwardQueue);
+            } else {
+                meet = expandLayer(ctx, backward, ctx, backwardQueue);
+            }
+        }
+
+        if (meet == -1) {
+            return false;
+        }
+        joinPaths(ctx, backward, meet);
+        return true;
+    }
+
+    // Expands every cell of the current layer and returns the meeting cell with the
+    // shortest total length, or -1 if the two searches have not touched yet
+    private int expandLayer(SearchContext steps, SearchContext own, SearchContext other, IntQueue queue) {
+        int[] neighbors = own.neighbors;
+        int meet = -1;
+        int best = Integer.MAX_VALUE;
+
+        for (int layer = queue.size(); layer > 0; layer--) {
+            int current = queue.poll();
+            int count = maze.getNeighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!own.isVisited(neighbor)) {
+                    own.markVisited(neighbor);
+                    own.reach(neighbor, current, own.getDistance(current) + 1);
+                    steps.addStep(neighbor);
+                    queue.offer(neighbor);
+
+                    if (other.isReached(neighbor)) {
+                        int total = own.getDistance(neighbor) + other.getDistance(neighbor);
+                        if (total < best) {
+                            best = total;
+                            meet = neighbor;
+                        }
+                    }
+                }
+            }
+        }
+        return meet;
+    }
+}
@@ -0,0 +1,59 @@
+package maze;
+
+// Shared plumbing for solvers that search forward from the start and backward
+// from every goal at once. The forward half runs in the caller's context, the
+// backward half in its companion. Both halves record their expansions in the
+// caller's context, so getExploredCount() covers the whole search.
+abstract class BidirectionalSolver extends MazeSolver {
+    private static final int[] NO_GOALS = new int[0];
+
+    public BidirectionalSolver(MazeGraph maze) {
+        super(maze);
+    }
+
+    // Rewrites the forward parents so that ctx.getPath() runs start -> meet -> goal.
+    // With zero-cost cells the two half paths can share cells; such loops cost
+    // nothing and are cut out so the parent chain stays acyclic.
+    protected void joinPaths(SearchContext ctx, SearchContext backward, int meet) {
+        int forwardLength = 0;
+        for (int cell = meet; cell != -1; cell = ctx.getParent(cell)) {
+            forwardLength++;
+        }
+        int backwardLength = 0;
+        for (int cell = backward.getParent(meet); cell != -1; cell = backward.getParent(cell)) {
+            backwardLength++;
+        }
+
+        int[] path = new int[forwardLength + backwardLength];
+        for (int cell = meet, i = forwardLength - 1; cell != -1; cell = ctx.getParent(cell), i--) {
+            path[i] = cell;
+        }
+        for (int cell = backward.getParent(meet), i = forwardLength; cell != -1; cell = backward.getParent(cell), i++) {
+            path[i] = cell;
+        }
+
+        // The backward parents are no longer needed; reuse its stamps as an
+        // index of the forward half to find shared cells
+        backward.begin(NO_GOALS);
+        for (int i = 0; i < forwardLength; i++) {
+            backward.retrace(path[i], -1, i);
+        }
+        int length = forwardLength;
+        for (int i = forwardLength; i < path.length; i++) {
+            int cell = path[i];
+            int forwardIndex = backward.getDistance(cell);
+            if (backward.isReached(cell) && forwardIndex < length) {
+                length = forwardIndex + 1;
+            } else {
+                path[length++] = cell;
+            }
+        }
+
+        int dist = 0;
+        for (int i = 1; i < length; i++) {
+            dist += maze.getCost(path[i]);
+            ctx.retrace(path[i], path[i - 1], dist);
+        }
+        ctx.setGoal(path[length - 1]);
+    }
+}
@@ -0,0 +1,108 @@
+package maze;
+
+import java.util.Arrays;
+
+// Dial's bucket queue for monotone integer keys where every key pushed is within
+// maxStep of the last polled key. Buckets are intrusive doubly linked lists over
+// cell indices, so insert, decrease-key and poll are O(1) amortized and each cell
+// is queued at most once. Keys equal to the current minimum (zero-cost edges) go
+// into the bucket being drained, which gives 0-1 BFS behaviour for free.
+class BucketQueue {
+    private final int bucketCount;
+    private final int[] head;   // bucket -> first cell, -1 when empty
+    private final int[] next;   // cell -> next cell in its bucket
+    private final int[] prev;   // cell -> previous cell in its bucket
+    private final int[] keys;   // cell -> key while queued
+    private final boolean[] queued;
+    private int current;        // smallest key that may still be queued
+    private int size;
+
+    public BucketQueue(int capacity, int maxStep) {
+        if (maxStep < 0) {
+            throw new IllegalArgumentException("Step must not be negative: " + maxStep);
+        }
+        this.bucketCount = maxStep + 1;
+        this.head = new int[bucketCount];
+        this.next = new int[Math.max(1, capacity)];
+        this.prev = new int[Math.max(1, capacity)];
+        this.keys = new int[Math.max(1, capacity)];
+        this.queued = new boolean[Math.max(1, capacity)];
+        Arrays.fill(head, -1);
+    }
+
+    public void clear() {
+        for (int b = 0; b < bucketCount; b++) {
+            for (int cell = head[b]; cell != -1; cell = next[cell]) {
+                queued[cell] = false;
+            }
+            head[b] = -1;
+        }
+        current = 0;
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getKey(int cell) {
+        return keys[cell];
+    }
+
+    // Inserts the cell or moves it to a smaller key. The key must lie in
+    // [current, current + maxStep]; returns false if it does not improve.
+    public boolean insertOrDecrease(int cell, int key) {
+        if (key < current || key >= current + bucketCount) {
+            throw new IllegalArgumentException("Key " + key + " outside window starting at " + current);
+        }
+        if (queued[cell]) {
+            if (key >= keys[cell]) {
+                return false;
+            }
+            unlink(cell);
+        } else {
+            queued[cell] = true;
+            size++;
+        }
+        keys[cell] = key;
+        int b = key % bucketCount;
+        prev[cell] = -1;
+        next[cell] = head[b];
+        if (head[b] != -1) prev[head[b]] = cell;
+        head[b] = cell;
+        return true;
+    }
+
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        int b = current % bucketCount;
+        while (head[b] == -1) {
+            current++;
+            b++;
+            if (b == bucketCount) b = 0;
+        }
+        int cell = head[b];
+        unlink(cell);
+        queued[cell] = false;
+        size--;
+        return cell;
+    }
+
+    private void unlink(int cell) {
+        int b = keys[cell] % bucketCount;
+        if (prev[cell] != -1) {
+            next[prev[cell]] = next[cell];
+        } else {
+            head[b] = next[cell];
+        }
+        if (next[cell] != -1) {
+            prev[next[cell]] = prev[cell];
+        }
+    }
+}
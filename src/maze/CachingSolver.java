@@ -0,0 +1,53 @@
+package maze;
+
+// Puts a PathCache in front of another solver. A hit writes the cached path into
+// the context without searching, so it reports no explored cells; a miss runs
+// the wrapped solver and caches what it found. Several CachingSolvers can share
+// one cache as long as each uses its own algorithm name.
+class CachingSolver extends MazeSolver {
+    private final MazeSolver solver;
+    private final PathCache cache;
+    private final String algorithm;
+
+    public CachingSolver(MazeSolver solver, PathCache cache) {
+        this(solver, cache, solver.getClass().getSimpleName());
+    }
+
+    public CachingSolver(MazeSolver solver, PathCache cache, String algorithm) {
+        super(solver.maze);
+        if (cache.getMaze() != solver.maze) {
+            throw new IllegalArgumentException("Cache belongs to a different maze");
+        }
+        this.solver = solver;
+        this.cache = cache;
+        this.algorithm = algorithm;
+    }
+
+    public PathCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        int[] cached = cache.get(algorithm, start, goals);
+        if (cached != null) {
+            ctx.begin(goals);
+            if (cached.length == 0) {
+                return false;
+            }
+            int dist = 0;
+            ctx.retrace(cached[0], -1, 0);
+            for (int i = 1; i < cached.length; i++) {
+                dist += maze.getCost(cached[i]);
+                ctx.retrace(cached[i], cached[i - 1], dist);
+            }
+            ctx.setGoal(cached[cached.length - 1]);
+            return true;
+        }
+
+        int version = maze.getVersion();
+        boolean found = solver.solve(ctx, start, goals);
+        cache.put(algorithm, start, goals, version, found ? ctx.getPath() : new int[0]);
+        return found;
+    }
+}
@@ -0,0 +1,74 @@
+package maze;
+
+import java.awt.Color;
+
+// Lightweight view of one grid cell. All state lives in MazeGraph's flat arrays,
+// so a Cell can be created on demand and two views of the same cell are equal.
+class Cell {
+    final int row, col;
+    private final MazeGraph maze;
+    private final int index;
+
+    Cell(MazeGraph maze, int row, int col) {
+        this.maze = maze;
+        this.row = row;
+        this.col = col;
+        this.index = maze.index(row, col);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean hasTopWall() {
+        return maze.hasWall(index, MazeGraph.TOP);
+    }
+
+    public boolean hasRightWall() {
+        return maze.hasWall(index, MazeGraph.RIGHT);
+    }
+
+    public boolean hasBottomWall() {
+        return maze.hasWall(index, MazeGraph.BOTTOM);
+    }
+
+    public boolean hasLeftWall() {
+        return maze.hasWall(index, MazeGraph.LEFT);
+    }
+
+    public TerrainType getTerrain() {
+        return maze.getTerrain(index);
+    }
+
+    public int getCost() {
+        return maze.getCost(index);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cell)) return false;
+        Cell other = (Cell) o;
+        return other.maze == maze && other.index == index;
+    }
+
+    @Override
+    public int hashCode() {
+        return index;
+    }
+
+    public enum TerrainType {
+        DEFAULT(0, new Color(248, 249, 250)),
+        GRASS(1, new Color(163, 228, 134)),
+        MUD(5, new Color(181, 131, 90)),
+        WATER(10, new Color(129, 199, 232));
+
+        final int cost;
+        final Color color;
+
+        TerrainType(int cost, Color color) {
+            this.cost = cost;
+            this.color = color;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package maze;
+
+import java.util.Arrays;
+
+// Abstract graph for hierarchical search (HPA*). The grid is cut into square
+// clusters; every cell with an open side into another cluster is an entrance.
+// For each cluster the cost between every pair of its entrances, moving only
+// inside the cluster, is computed once and cached. Paths that leave and re-enter
+// a cluster are covered by the neighbouring clusters' entrances, so distances on
+// this graph are exact.
+//
+// Clusters are built on first use. Before each query refresh() reads the maze's
+// change log and drops only the clusters holding edited cells; a regenerated
+// maze drops them all.
+class ClusterGraph {
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+    static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private final MazeGraph maze;
+    private final int clusterSize;
+    private final int clusterCols;
+    private final Cluster[] clusters;
+    private final LocalSearch buildSearch;
+    private int syncedVersion;
+    private int builtCount;
+
+    ClusterGraph(MazeGraph maze, int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("Cluster size must be at least 2: " + clusterSize);
+        }
+        this.maze = maze;
+        this.clusterSize = clusterSize;
+        this.clusterCols = (maze.getCols() + clusterSize - 1) / clusterSize;
+        int clusterRows = (maze.getRows() + clusterSize - 1) / clusterSize;
+        this.clusters = new Cluster[clusterRows * clusterCols];
+        this.buildSearch = newLocalSearch();
+        this.syncedVersion = maze.getVersion();
+    }
+
+    // Drops the clusters whose walls or terrain changed since the last refresh
+    synchronized void refresh() {
+        if (syncedVersion == maze.getVersion()) {
+            return;
+        }
+        int[] changed = maze.getChangedCellsSince(syncedVersion);
+        if (changed == null) {
+            Arrays.fill(clusters, null);
+        } else {
+            // A wall edit logs the cells on both sides, so both clusters are dropped
+            for (int cell : changed) {
+                clusters[clusterOf(cell)] = null;
+            }
+        }
+        syncedVersion = maze.getVersion();
+    }
+
+    synchronized Cluster cluster(int id) {
+        Cluster cluster = clusters[id];
+        if (cluster == null) {
+            cluster = build(id);
+            clusters[id] = cluster;
+            builtCount++;
+        }
+        return cluster;
+    }
+
+    int clusterOf(int cell) {
+        int cols = maze.getCols();
+        return (cell / cols / clusterSize) * clusterCols + (cell % cols) / clusterSize;
+    }
+
+    // Number of cluster builds so far, for checking that edits stay local
+    synchronized int getBuildCount() {
+        return builtCount;
+    }
+
+    int getClusterSize() {
+        return clusterSize;
+    }
+
+    LocalSearch newLocalSearch() {
+        return new LocalSearch(clusterSize * clusterSize);
+    }
+
+    private Cluster build(int id) {
+        int top = (id / clusterCols) * clusterSize;
+        int left = (id % clusterCols) * clusterSize;
+        Cluster cluster = new Cluster(id, top, left, Math.min(clusterSize, maze.getRows() - top),
+                Math.min(clusterSize, maze.getCols() - left), maze.getCols());
+
+        // Entrances: border cells with an open side leading out of the cluster
+        int[] entrances = new int[2 * (cluster.height + cluster.width)];
+        int count = 0;
+        int[] neighbors = new int[4];
+        for (int r = 0; r < cluster.height; r++) {
+            for (int c = 0; c < cluster.width; c++) {
+                if (r != 0 && c != 0 && r != cluster.height - 1 && c != cluster.width - 1) {
+                    continue;
+                }
+                int cell = maze.index(top + r, left + c);
+                int n = maze.getNeighbors(cell, neighbors);
+                for (int i = 0; i < n; i++) {
+                    if (!cluster.contains(neighbors[i])) {
+                        entrances[count++] = cell;
+                        break;
+                    }
+                }
+            }
+        }
+        cluster.entrances = Arrays.copyOf(entrances, count);
+
+        cluster.costs = new int[count * count];
+        for (int i = 0; i < count; i++) {
+            search(cluster, buildSearch, new int[] { cluster.entrances[i] }, false);
+            for (int j = 0; j < count; j++) {
+                cluster.costs[i * count + j] = buildSearch.distanceTo(cluster, cluster.entrances[j]);
+            }
+        }
+        return cluster;
+    }
+
+    // Dial's algorithm confined to one cluster, from all sources at once. Forward
+    // distances charge the cost of every cell entered; backward distances are
+    // costs towards the sources, charging each cell as it is left, so they match
+    // forward distances of the reverse walk.
+    void search(Cluster cluster, LocalSearch search, int[] sources, boolean backward) {
+        int[] dist = search.distance;
+        int[] parent = search.parent;
+        int[] root = search.root;
+        int[] neighbors = search.neighbors;
+        BucketQueue queue = search.queue;
+        int size = cluster.height * cluster.width;
+        Arrays.fill(dist, 0, size, UNREACHABLE);
+        queue.clear();
+
+        for (int source : sources) {
+            int local = cluster.local(source);
+            dist[local] = 0;
+            parent[local] = -1;
+            root[local] = source;
+            queue.insertOrDecrease(local, 0);
+        }
+
+        while (!queue.isEmpty()) {
+            int local = queue.poll();
+            int cell = cluster.global(local);
+            int count = maze.getNeighbors(cell, neighbors);
+            for (int i = 0; i < count; i++) {
+                int next = neighbors[i];
+                if (!cluster.contains(next)) {
+                    continue;
+                }
+                int nextLocal = cluster.local(next);
+                int newDist = dist[local] + (backward ? maze.getCost(cell) : maze.getCost(next));
+                if (newDist < dist[nextLocal]) {
+                    dist[nextLocal] = newDist;
+                    parent[nextLocal] = local;
+                    root[nextLocal] = root[local];
+                    queue.insertOrDecrease(nextLocal, newDist);
+                }
+            }
+        }
+    }
+
+    static class Cluster {
+        final int id;
+        final int top, left, height, width;
+        private final int cols; // of the whole maze
+        int[] entrances;
+        int[] costs; // costs[i * n + j]: entrance i to entrance j inside the cluster
+
+        Cluster(int id, int top, int left, int height, int width, int cols) {
+            this.id = id;
+            this.top = top;
+            this.left = left;
+            this.height = height;
+            this.width = width;
+            this.cols = cols;
+        }
+
+        boolean contains(int cell) {
+            int r = cell / cols - top;
+            int c = cell % cols - left;
+            return r >= 0 && r < height && c >= 0 && c < width;
+        }
+
+        // Cell index inside the cluster, row-major over its own width
+        int local(int cell) {
+            return (cell / cols - top) * width + (cell % cols - left);
+        }
+
+        int global(int local) {
+            return (top + local / width) * cols + left + local % width;
+        }
+
+        // Slot of an entrance cell in entrances, -1 if it is not one
+        int entranceSlot(int cell) {
+            for (int i = 0; i < entrances.length; i++) {
+                if (entrances[i] == cell) return i;
+            }
+            return -1;
+        }
+
+        int cost(int from, int to) {
+            return costs[from * entrances.length + to];
+        }
+    }
+
+    // Scratch space for searches inside one cluster; one per thread
+    static class LocalSearch {
+        final int[] distance;
+        final int[] parent;
+        final int[] root; // source each cell's distance comes from
+        final int[] neighbors = new int[4];
+        final BucketQueue queue;
+
+        LocalSearch(int capacity) {
+            distance = new int[capacity];
+            parent = new int[capacity];
+            root = new int[capacity];
+            queue = new BucketQueue(capacity, MazeGraph.MAX_TERRAIN_COST);
+        }
+
+        int distanceTo(Cluster cluster, int cell) {
+            return distance[cluster.local(cell)];
+        }
+    }
+}
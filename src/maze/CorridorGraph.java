@@ -0,0 +1,232 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// The maze with every corridor collapsed into one weighted edge. Nodes are the
+// cells whose number of open sides is not 2 (junctions, dead ends, isolated
+// cells); every other cell lies inside exactly one corridor between two nodes.
+// A corridor's weight is the terrain cost of its interior cells; walking it from
+// one end adds the cost of the node at the other end. Perfect mazes have about a
+// third as many junctions as cells, and Dijkstra on this graph settles junctions
+// only. Built once per maze version, like GoalDistanceField.
+//
+// A ring of degree-2 cells with no junction on it gets one of its cells promoted
+// to a node, so every cell is either a node or inside a corridor.
+class CorridorGraph {
+    private final MazeGraph maze;
+    private final int version;
+    private final BitSet nodes = new BitSet();
+    private final int[] corridorOf; // corridor of each interior cell, -1 for nodes
+
+    // Per corridor
+    private int corridorCount;
+    private int[] from = new int[16];
+    private int[] to = new int[16];
+    private int[] interiorCost = new int[16];
+    private int[] firstInterior = new int[16]; // interior cell next to from, -1 if from and to touch
+    private int[] lastInterior = new int[16];  // interior cell next to to
+
+    // Corridors touching each node as compressed rows: adjacency[adjacencyStart[node] ..]
+    private int[] nodeCells;
+    private int[] adjacencyStart;
+    private int[] adjacency;
+    private final int[] nodeIndex; // row of each node, -1 for interior cells
+
+    CorridorGraph(MazeGraph maze) {
+        this.maze = maze;
+        this.version = maze.getVersion();
+        this.corridorOf = new int[maze.getCellCount()];
+        this.nodeIndex = new int[maze.getCellCount()];
+        build();
+    }
+
+    private void build() {
+        int cells = maze.getCellCount();
+        int[] exits = new int[4];
+        int[] neighbors = new int[4];
+        Arrays.fill(corridorOf, -1);
+        Arrays.fill(nodeIndex, -1);
+
+        for (int cell = 0; cell < cells; cell++) {
+            if (maze.getNeighbors(cell, neighbors) != 2) {
+                nodes.set(cell);
+            }
+        }
+        for (int node = nodes.nextSetBit(0); node >= 0; node = nodes.nextSetBit(node + 1)) {
+            traceCorridors(node, exits, neighbors);
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            if (!nodes.get(cell) && corridorOf[cell] < 0) {
+                nodes.set(cell);
+                traceCorridors(cell, exits, neighbors);
+            }
+        }
+        buildAdjacency();
+    }
+
+    // Records every corridor leaving node that has not been recorded from its other end
+    private void traceCorridors(int node, int[] exits, int[] neighbors) {
+        int count = maze.getNeighbors(node, exits);
+        for (int i = 0; i < count; i++) {
+            int first = exits[i];
+            if (nodes.get(first)) {
+                // Adjacent nodes: a corridor without interior, recorded from the lower end
+                if (node < first) {
+                    addCorridor(node, first, 0, -1, -1);
+                }
+                continue;
+            }
+            if (corridorOf[first] >= 0) {
+                continue; // walked from the other end already
+            }
+            int id = corridorCount;
+            int cost = 0;
+            int prev = node;
+            int cur = first;
+            int last = first;
+            while (!nodes.get(cur)) {
+                corridorOf[cur] = id;
+                cost += maze.getCost(cur);
+                last = cur;
+                int next = otherNeighbor(cur, prev, neighbors);
+                prev = cur;
+                cur = next;
+            }
+            addCorridor(node, cur, cost, first, last);
+        }
+    }
+
+    private void addCorridor(int a, int b, int cost, int first, int last) {
+        if (corridorCount == from.length) {
+            int size = corridorCount * 2;
+            from = Arrays.copyOf(from, size);
+            to = Arrays.copyOf(to, size);
+            interiorCost = Arrays.copyOf(interiorCost, size);
+            firstInterior = Arrays.copyOf(firstInterior, size);
+            lastInterior = Arrays.copyOf(lastInterior, size);
+        }
+        from[corridorCount] = a;
+        to[corridorCount] = b;
+        interiorCost[corridorCount] = cost;
+        firstInterior[corridorCount] = first;
+        lastInterior[corridorCount] = last;
+        corridorCount++;
+    }
+
+    private void buildAdjacency() {
+        int nodeCount = nodes.cardinality();
+        nodeCells = new int[nodeCount];
+        adjacencyStart = new int[nodeCount + 1];
+        int row = 0;
+        for (int node = nodes.nextSetBit(0); node >= 0; node = nodes.nextSetBit(node + 1)) {
+            nodeCells[row] = node;
+            nodeIndex[node] = row++;
+        }
+        for (int c = 0; c < corridorCount; c++) {
+            adjacencyStart[nodeIndex[from[c]] + 1]++;
+            if (to[c] != from[c]) {
+                adjacencyStart[nodeIndex[to[c]] + 1]++;
+            }
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            adjacencyStart[i + 1] += adjacencyStart[i];
+        }
+        adjacency = new int[adjacencyStart[nodeCount]];
+        int[] fill = Arrays.copyOf(adjacencyStart, nodeCount);
+        for (int c = 0; c < corridorCount; c++) {
+            adjacency[fill[nodeIndex[from[c]]]++] = c;
+            if (to[c] != from[c]) {
+                adjacency[fill[nodeIndex[to[c]]]++] = c;
+            }
+        }
+    }
+
+    // The open neighbor of a degree-2 cell that is not prev
+    int otherNeighbor(int cell, int prev, int[] neighbors) {
+        maze.getNeighbors(cell, neighbors);
+        return neighbors[0] == prev ? neighbors[1] : neighbors[0];
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    public boolean isCurrent() {
+        return version == maze.getVersion();
+    }
+
+    public boolean isNode(int cell) {
+        return nodes.get(cell);
+    }
+
+    public int getNodeCount() {
+        return nodeCells.length;
+    }
+
+    public int getCorridorCount() {
+        return corridorCount;
+    }
+
+    // Corridor an interior cell lies in, -1 for nodes
+    public int corridorOf(int cell) {
+        return corridorOf[cell];
+    }
+
+    // Corridors at a node are adjacency[corridorsStart(node) .. corridorsEnd(node))
+    int corridorsStart(int node) {
+        return adjacencyStart[nodeIndex[node]];
+    }
+
+    int corridorsEnd(int node) {
+        return adjacencyStart[nodeIndex[node] + 1];
+    }
+
+    int corridorAt(int slot) {
+        return adjacency[slot];
+    }
+
+    int from(int corridor) { return from[corridor]; }
+    int to(int corridor) { return to[corridor]; }
+    int interiorCost(int corridor) { return interiorCost[corridor]; }
+
+    // Interior cells next to from and to; -1 for a corridor without interior
+    int firstInterior(int corridor) { return firstInterior[corridor]; }
+    int lastInterior(int corridor) { return lastInterior[corridor]; }
+
+    // Cell next to the given end (its other end for a corridor without interior);
+    // ambiguous for loops, where both ends are the same node
+    int interiorNextTo(int corridor, int end) {
+        if (firstInterior[corridor] < 0) {
+            return end == from[corridor] ? to[corridor] : from[corridor];
+        }
+        return end == from[corridor] ? firstInterior[corridor] : lastInterior[corridor];
+    }
+
+    // Turns a search result whose parent links may jump over corridors into a
+    // cell-by-cell path. A link into a cell that was never reached points at the
+    // first skipped corridor cell; the corridor is walked back from there until it
+    // meets a reached cell, filling in parents and distances on the way. Shared by
+    // every solver that skips corridors.
+    static void unrollPath(MazeGraph maze, SearchContext ctx, int goal) {
+        int[] neighbors = new int[4];
+        int cell = goal;
+        while (cell >= 0) {
+            int parent = ctx.getParent(cell);
+            if (parent >= 0 && !ctx.isReached(parent)) {
+                int prev = cell;
+                int cur = parent;
+                while (!ctx.isReached(cur)) {
+                    maze.getNeighbors(cur, neighbors);
+                    int next = neighbors[0] == prev ? neighbors[1] : neighbors[0];
+                    ctx.retrace(cur, next, ctx.getDistance(prev) - maze.getCost(prev));
+                    prev = cur;
+                    cur = next;
+                }
+                cell = cur;
+            } else {
+                cell = parent;
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package maze;
+
+import java.util.Arrays;
+
+// Dijkstra that never stops inside a corridor. Only junctions, dead ends that
+// are goals, and goal cells enter the frontier; the cells in between are skipped
+// and filled back in by CorridorGraph.unrollPath once a goal is found. Returns
+// the same optimal cost as DijkstraSolver with far fewer expansions.
+class CorridorSolver extends MazeSolver {
+    enum Mode {
+        // Jump along corridors using the maze's precomputed CorridorGraph, which
+        // crosses a corridor in O(1) unless a goal lies inside it
+        GRAPH,
+        // Jump Point Search style: walk each corridor on the fly until the next
+        // junction. No precomputation, so it suits mazes that are being edited.
+        JUMP
+    }
+
+    private final Mode mode;
+    private final FrontierType frontierType;
+
+    public CorridorSolver(MazeGraph maze) {
+        this(maze, Mode.GRAPH);
+    }
+
+    public CorridorSolver(MazeGraph maze, Mode mode) {
+        this(maze, mode, FrontierType.LAZY_BINARY);
+    }
+
+    public CorridorSolver(MazeGraph maze, Mode mode, FrontierType frontierType) {
+        super(maze);
+        this.mode = mode;
+        this.frontierType = frontierType;
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        PriorityFrontier pq = ctx.priorityFrontier(frontierType);
+        CorridorGraph graph = mode == Mode.GRAPH ? maze.getCorridorGraph() : null;
+        int[] goalCorridors = graph != null ? goalCorridors(graph, goals) : null;
+        int[] scratch = new int[4];
+
+        pq.offer(0, start);
+        ctx.reach(start, -1, 0);
+
+        while (!pq.isEmpty()) {
+            int cell = pq.poll();
+
+            if (ctx.isVisited(cell)) {
+                ctx.countStalePop();
+                continue;
+            }
+
+            ctx.markVisited(cell);
+            ctx.addStep(cell);
+
+            if (ctx.isGoal(cell)) {
+                ctx.setGoal(cell);
+                CorridorGraph.unrollPath(maze, ctx, cell);
+                return true;
+            }
+
+            if (graph != null && graph.isNode(cell)) {
+                expandCorridors(ctx, pq, graph, goalCorridors, cell, scratch);
+            } else {
+                // Jump mode, or a start cell in the middle of a corridor
+                int[] exits = ctx.neighbors;
+                int count = maze.getNeighbors(cell, exits);
+                for (int i = 0; i < count; i++) {
+                    if (!ctx.isVisited(exits[i])) {
+                        jump(ctx, pq, cell, exits[i], ctx.getDistance(cell), scratch);
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void expandCorridors(SearchContext ctx, PriorityFrontier pq, CorridorGraph graph,
+                                 int[] goalCorridors, int node, int[] scratch) {
+        int dist = ctx.getDistance(node);
+        for (int slot = graph.corridorsStart(node); slot < graph.corridorsEnd(node); slot++) {
+            int corridor = graph.corridorAt(slot);
+            int from = graph.from(corridor);
+            int to = graph.to(corridor);
+
+            if (Arrays.binarySearch(goalCorridors, corridor) >= 0) {
+                // A goal inside: walk in so it is found at its real distance
+                if (from == node) jump(ctx, pq, node, graph.firstInterior(corridor), dist, scratch);
+                if (to == node) jump(ctx, pq, node, graph.lastInterior(corridor), dist, scratch);
+                continue;
+            }
+            if (from == to) {
+                continue; // a loop back to this node never helps
+            }
+            int other = from == node ? to : from;
+            // A node with a single corridor is a dead end; only worth it if it is a goal
+            boolean deadEnd = graph.corridorsEnd(other) - graph.corridorsStart(other) == 1;
+            if (!ctx.isVisited(other) && (!deadEnd || ctx.isGoal(other))) {
+                relax(ctx, pq, other, graph.interiorNextTo(corridor, other),
+                        dist + graph.interiorCost(corridor) + maze.getCost(other));
+            }
+        }
+    }
+
+    // Walks from prev into cur and on along the corridor, queueing the first goal
+    // or junction it meets. Corridor cells are left unreached; the parent of the
+    // queued cell is the last corridor cell before it.
+    private void jump(SearchContext ctx, PriorityFrontier pq, int prev, int cur, int dist, int[] scratch) {
+        while (true) {
+            dist += maze.getCost(cur);
+            if (ctx.isGoal(cur)) {
+                relax(ctx, pq, cur, prev, dist);
+                return;
+            }
+            int count = maze.getNeighbors(cur, scratch);
+            if (count != 2) {
+                if (count > 1) {
+                    relax(ctx, pq, cur, prev, dist);
+                }
+                return; // dead ends that are not goals lead nowhere
+            }
+            if (ctx.isReached(cur)) {
+                return; // back at the start, or a corridor walked already
+            }
+            int next = scratch[0] == prev ? scratch[1] : scratch[0];
+            prev = cur;
+            cur = next;
+        }
+    }
+
+    private void relax(SearchContext ctx, PriorityFrontier pq, int cell, int parent, int dist) {
+        if (dist < ctx.getDistance(cell)) {
+            ctx.reach(cell, parent, dist);
+            pq.offer(dist, cell);
+        }
+    }
+
+    // Sorted ids of the corridors that have a goal cell inside them
+    private static int[] goalCorridors(CorridorGraph graph, int[] goals) {
+        int[] corridors = new int[goals.length];
+        int count = 0;
+        for (int goal : goals) {
+            int corridor = graph.corridorOf(goal);
+            if (corridor >= 0) {
+                corridors[count++] = corridor;
+            }
+        }
+        corridors = Arrays.copyOf(corridors, count);
+        Arrays.sort(corridors);
+        return corridors;
+    }
+}
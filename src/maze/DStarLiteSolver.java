@@ -0,0 +1,211 @@
+package maze;
+
+import java.util.Arrays;
+
+// D* Lite: plans backward from the goals and keeps its cost-to-goal estimates
+// between calls. After walls or terrain change through MazeGraph's editing API,
+// the next solve() only re-expands the cells whose estimates the edits actually
+// invalidated instead of searching from scratch. Moving the start is handled
+// with the usual key modifier km, so the goals are what has to stay fixed.
+//
+// Unlike the other solvers this one is stateful: its planner belongs to one maze
+// and one goal set, and solve() is synchronized. A new goal set, a regenerated
+// maze or an overflowing edit log falls back to a full replan. Returns the same
+// optimal cost as DijkstraSolver.
+//
+// Default terrain costs nothing, and zero-cost edges can make D* Lite chase a
+// raised estimate around a cycle without its keys ever growing. Costs are
+// therefore planned as (terrain cost << 32) + 1 per cell entered: every edge is
+// positive, the high half is still the terrain cost and ties go to fewer steps.
+class DStarLiteSolver extends MazeSolver {
+    private static final long INF = Long.MAX_VALUE / 4;
+
+    private final long[] g;
+    private final long[] rhs;
+    private final boolean[] goalCell;
+    private final IndexedMinHeap open;
+    private final int[] neighbors = new int[4];
+    private final int[] predecessors = new int[4];
+    private final int[] editedArea = new int[4];
+    private int[] goals;
+    private int lastStart = -1;
+    private long km;
+    private int syncedVersion;
+
+    public DStarLiteSolver(MazeGraph maze) {
+        super(maze);
+        int cells = maze.getCellCount();
+        this.g = new long[cells];
+        this.rhs = new long[cells];
+        this.goalCell = new boolean[cells];
+        this.open = IndexedMinHeap.binary(cells);
+    }
+
+    @Override
+    public synchronized boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        int[] changed = maze.getChangedCellsSince(syncedVersion);
+        if (this.goals == null || !Arrays.equals(this.goals, goals) || changed == null) {
+            reset(start, goals);
+        } else {
+            if (start != lastStart) {
+                km += heuristic(lastStart, start);
+                lastStart = start;
+            }
+            for (int cell : changed) {
+                // An edit changes the edges into the cell and the walls around it
+                updateVertex(cell, start);
+                int count = gridNeighbors(cell);
+                for (int i = 0; i < count; i++) {
+                    updateVertex(editedArea[i], start);
+                }
+            }
+        }
+        syncedVersion = maze.getVersion();
+
+        computeShortestPath(ctx, start);
+        return extractPath(ctx, start);
+    }
+
+    private void reset(int start, int[] goals) {
+        if (this.goals != null) {
+            for (int goal : this.goals) {
+                goalCell[goal] = false;
+            }
+        }
+        this.goals = goals.clone();
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open.clear();
+        km = 0;
+        lastStart = start;
+        for (int goal : goals) {
+            goalCell[goal] = true;
+            rhs[goal] = 0;
+            open.insertOrDecrease(goal, key(goal, start));
+        }
+    }
+
+    private void computeShortestPath(SearchContext ctx, int start) {
+        while (!open.isEmpty() && (open.peekKey() <= key(start, start) || rhs[start] != g[start])) {
+            long oldKey = open.peekKey();
+            int cell = open.peek();
+            long newKey = key(cell, start);
+
+            if (oldKey < newKey) {
+                open.update(cell, newKey);
+            } else if (g[cell] > rhs[cell]) {
+                // Overconsistent: the estimate improved, settle it
+                g[cell] = rhs[cell];
+                open.remove(cell);
+                ctx.addStep(cell);
+                ctx.countRelaxations(updatePredecessors(cell, start));
+            } else {
+                // Underconsistent: the estimate got worse, raise it and let the
+                // cell and everything routed through it find new routes
+                g[cell] = INF;
+                ctx.addStep(cell);
+                updateVertex(cell, start);
+                ctx.countRelaxations(1 + updatePredecessors(cell, start));
+            }
+        }
+    }
+
+    // Returns how many vertices it updated
+    private int updatePredecessors(int cell, int start) {
+        // Passages are two-way, so predecessors are simply the open neighbors
+        int count = maze.getNeighbors(cell, predecessors);
+        for (int i = 0; i < count; i++) {
+            updateVertex(predecessors[i], start);
+        }
+        return count;
+    }
+
+    private void updateVertex(int cell, int start) {
+        if (!goalCell[cell]) {
+            rhs[cell] = bestSuccessorCost(cell);
+        }
+        if (g[cell] != rhs[cell]) {
+            open.update(cell, key(cell, start));
+        } else if (open.contains(cell)) {
+            open.remove(cell);
+        }
+    }
+
+    // min over open neighbors of w(neighbor) + g(neighbor), moving into a cell costs its terrain
+    private long bestSuccessorCost(int cell) {
+        long best = INF;
+        int count = maze.getNeighbors(cell, neighbors);
+        for (int i = 0; i < count; i++) {
+            int next = neighbors[i];
+            if (g[next] < INF) {
+                best = Math.min(best, g[next] + weight(next));
+            }
+        }
+        return best;
+    }
+
+    // Follows the cheapest successor from the start. Everything with a key up to
+    // the start's is consistent by now, so this retraces an optimal path.
+    private boolean extractPath(SearchContext ctx, int start) {
+        if (g[start] >= INF) {
+            return false;
+        }
+        int[] around = ctx.neighbors;
+        int cell = start;
+        ctx.retrace(start, -1, 0);
+
+        while (!goalCell[cell]) {
+            int best = -1;
+            long bestCost = INF;
+            int count = maze.getNeighbors(cell, around);
+            for (int i = 0; i < count; i++) {
+                int next = around[i];
+                if (g[next] < INF && g[next] + weight(next) < bestCost && !ctx.isReached(next)) {
+                    bestCost = g[next] + weight(next);
+                    best = next;
+                }
+            }
+            if (best < 0) {
+                return false;
+            }
+            ctx.retrace(best, cell, ctx.getDistance(cell) + maze.getCost(best));
+            cell = best;
+        }
+        ctx.setGoal(cell);
+        return true;
+    }
+
+    private long weight(int cell) {
+        return ((long) maze.getCost(cell) << 32) + 1;
+    }
+
+    // min(g, rhs) + h + km. Plain Dijkstra-style keys break ties by whichever cell
+    // the heap returns first, which is enough since every edge is positive.
+    private long key(int cell, int start) {
+        long best = Math.min(g[cell], rhs[cell]);
+        if (best >= INF) {
+            return Long.MAX_VALUE;
+        }
+        return best + heuristic(start, cell) + km;
+    }
+
+    // Lower bound on the planned cost: the cheapest terrain on every step, and at
+    // least one step per unit of Manhattan distance
+    private long heuristic(int a, int b) {
+        int cols = maze.getCols();
+        long steps = Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+        return ((MazeGraph.MIN_TERRAIN_COST * steps) << 32) + steps;
+    }
+
+    // All in-grid neighbors regardless of walls, since an edit may have just closed one
+    private int gridNeighbors(int cell) {
+        int cols = maze.getCols();
+        int count = 0;
+        if (cell >= cols) editedArea[count++] = cell - cols;
+        if (cell < maze.getCellCount() - cols) editedArea[count++] = cell + cols;
+        if (cell % cols > 0) editedArea[count++] = cell - 1;
+        if (cell % cols < cols - 1) editedArea[count++] = cell + 1;
+        return count;
+    }
+}
@@ -0,0 +1,47 @@
+package maze;
+
+// Dijkstra on Dial's bucket queue. Terrain costs are small bounded integers, so a
+// ring of maxCost + 1 buckets replaces the comparison heap and every queue
+// operation is O(1). Gives the same optimal path cost as DijkstraSolver.
+class DialSolver extends MazeSolver {
+    public DialSolver(MazeGraph maze) {
+        super(maze);
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        BucketQueue queue = ctx.bucketQueue(MazeGraph.MAX_TERRAIN_COST);
+        int[] neighbors = ctx.neighbors;
+
+        queue.insertOrDecrease(start, 0);
+        ctx.reach(start, -1, 0);
+
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+
+            ctx.markVisited(cell);
+            ctx.addStep(cell);
+
+            if (ctx.isGoal(cell)) {
+                ctx.setGoal(cell);
+                return true;
+            }
+
+            int count = maze.getNeighbors(cell, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!ctx.isVisited(neighbor)) {
+                    int newDist = ctx.getDistance(cell) + maze.getCost(neighbor);
+
+                    if (newDist < ctx.getDistance(neighbor)) {
+                        ctx.reach(neighbor, cell, newDist);
+                        queue.insertOrDecrease(neighbor, newDist);
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+}
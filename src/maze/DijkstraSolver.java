@@ -0,0 +1,57 @@
+package maze;
+
+class DijkstraSolver extends MazeSolver {
+    private final FrontierType frontierType;
+
+    public DijkstraSolver(MazeGraph maze) {
+        this(maze, FrontierType.LAZY_BINARY);
+    }
+
+    public DijkstraSolver(MazeGraph maze, FrontierType frontierType) {
+        super(maze);
+        this.frontierType = frontierType;
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        PriorityFrontier pq = ctx.priorityFrontier(frontierType);
+        int[] neighbors = ctx.neighbors;
+
+        pq.offer(0, start);
+        ctx.reach(start, -1, 0);
+
+        while (!pq.isEmpty()) {
+            int cell = pq.poll();
+
+            if (ctx.isVisited(cell)) {
+                ctx.countStalePop();
+                continue;
+            }
+
+            ctx.markVisited(cell);
+            ctx.addStep(cell);
+
+            // NEW: Check if any goal cell is reached
+            if (ctx.isGoal(cell)) {
+                ctx.setGoal(cell);
+                return true;
+            }
+
+            int count = maze.getNeighbors(cell, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!ctx.isVisited(neighbor)) {
+                    int newDist = ctx.getDistance(cell) + maze.getCost(neighbor);
+
+                    if (newDist < ctx.getDistance(neighbor)) {
+                        ctx.reach(neighbor, cell, newDist);
+                        pq.offer(newDist, neighbor);
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+}
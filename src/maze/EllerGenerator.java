@@ -0,0 +1,150 @@
+package maze;
+
+import java.util.Random;
+
+// Eller's algorithm: builds the maze one row at a time, keeping only the set
+// membership of the current row, so memory is O(cols) no matter how many rows
+// there are. RowCarver exposes the rows one by one for streaming use; carve()
+// simply writes every row into the maze.
+class EllerGenerator implements MazeGenerator {
+
+    @Override
+    public void carve(MazeGraph maze, long seed) {
+        RowCarver carver = new RowCarver(maze.getRows(), maze.getCols(), seed);
+        byte[] walls = new byte[maze.getCols()];
+        for (int row = 0; carver.nextRow(walls); row++) {
+            for (int col = 0; col < walls.length; col++) {
+                maze.setWallBits(maze.index(row, col), walls[col]);
+            }
+        }
+    }
+
+    // Produces the wall bits (MazeGraph.TOP/RIGHT/BOTTOM/LEFT) of each row in order.
+    // Set labels live in 0..2*cols-1 and are recycled every row, so the union-find
+    // never grows beyond two rows' worth of labels.
+    static class RowCarver {
+        private final long rows;
+        private final int cols;
+        private final Random random;
+        private final UnionFind sets;
+        private final int[] label;        // set label of each column in the current row
+        private final boolean[] openTop;  // column was carved down into from the row above
+        private final boolean[] labelUsed;
+        private final int[] members;      // per root: cells seen so far (reservoir sampling)
+        private final int[] candidate;    // per root: cell forced down if none went down
+        private final boolean[] goesDown; // per root: some cell already carves down
+        private final boolean[] down;     // per column: carve down from this row
+        private long row;
+
+        RowCarver(long rows, int cols, long seed) {
+            this.rows = rows;
+            this.cols = cols;
+            this.random = new Random(seed);
+            this.sets = new UnionFind(2 * cols);
+            this.label = new int[cols];
+            this.openTop = new boolean[cols];
+            this.labelUsed = new boolean[2 * cols];
+            this.members = new int[2 * cols];
+            this.candidate = new int[2 * cols];
+            this.goesDown = new boolean[2 * cols];
+            this.down = new boolean[cols];
+        }
+
+        long getRow() {
+            return row;
+        }
+
+        // Fills walls[0..cols) for the next row; returns false once every row is done
+        boolean nextRow(byte[] walls) {
+            if (row >= rows) {
+                return false;
+            }
+            boolean lastRow = row == rows - 1;
+
+            // Cells carved into from above keep their set; the rest get fresh labels
+            int nextFree = 0;
+            for (int col = 0; col < cols; col++) {
+                walls[col] = (byte) (openTop[col] ? MazeGraph.ALL_WALLS & ~MazeGraph.TOP : MazeGraph.ALL_WALLS);
+                if (!openTop[col]) {
+                    while (labelUsed[nextFree]) nextFree++;
+                    label[col] = nextFree;
+                    labelUsed[nextFree] = true;
+                }
+            }
+
+            // Randomly join adjacent cells of different sets; the last row joins them all
+            for (int col = 0; col < cols - 1; col++) {
+                if (sets.find(label[col]) != sets.find(label[col + 1]) && (lastRow || random.nextBoolean())) {
+                    sets.union(label[col], label[col + 1]);
+                    walls[col] &= (byte) ~MazeGraph.RIGHT;
+                    walls[col + 1] &= (byte) ~MazeGraph.LEFT;
+                }
+            }
+
+            if (!lastRow) {
+                chooseDownPassages();
+                for (int col = 0; col < cols; col++) {
+                    if (down[col]) {
+                        walls[col] &= (byte) ~MazeGraph.BOTTOM;
+                    }
+                }
+            }
+            startNextRow();
+            row++;
+            return true;
+        }
+
+        // Every set needs at least one way down, otherwise it would be cut off
+        private void chooseDownPassages() {
+            for (int col = 0; col < cols; col++) {
+                int root = sets.find(label[col]);
+                members[root]++;
+                if (random.nextInt(members[root]) == 0) {
+                    candidate[root] = col;
+                }
+                down[col] = random.nextBoolean();
+                if (down[col]) {
+                    goesDown[root] = true;
+                }
+            }
+            for (int col = 0; col < cols; col++) {
+                int root = sets.find(label[col]);
+                if (!goesDown[root]) {
+                    down[candidate[root]] = true;
+                    goesDown[root] = true;
+                }
+            }
+        }
+
+        // Carried cells take their set's root as label; everything else is recycled
+        private void startNextRow() {
+            for (int col = 0; col < cols; col++) {
+                int root = sets.find(label[col]);
+                members[root] = 0;
+                goesDown[root] = false;
+                openTop[col] = down[col];
+                label[col] = root;
+            }
+            for (int i = 0; i < labelUsed.length; i++) {
+                labelUsed[i] = false;
+            }
+            for (int col = 0; col < cols; col++) {
+                if (openTop[col]) {
+                    labelUsed[label[col]] = true;
+                }
+            }
+            for (int i = 0; i < labelUsed.length; i++) {
+                if (!labelUsed[i]) {
+                    sets.reset(i);
+                }
+            }
+            // Carried labels are roots, so their old children are unreferenced and safe to recycle
+            for (int col = 0; col < cols; col++) {
+                if (openTop[col]) {
+                    sets.reset(label[col]);
+                }
+                down[col] = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package maze;
+
+// Priority queue used by the weighted solvers
+enum FrontierType {
+    // Lazy binary heap; duplicates are skipped on poll. Matches the original tie-breaking.
+    LAZY_BINARY,
+    // Indexed heaps with decrease-key, at most one entry per cell
+    INDEXED_BINARY,
+    INDEXED_QUATERNARY
+}
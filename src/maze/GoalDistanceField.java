@@ -0,0 +1,102 @@
+package maze;
+
+import java.util.Arrays;
+
+// Cost from every cell to its nearest finish point, plus the direction of the first
+// step on such a path. Built once per maze version by a multi-source Dijkstra run
+// backwards from all finish cells (on Dial's buckets), after which the best path
+// from any start is read off by following next hops in O(path length), and A* can
+// use the distances as an exact heuristic.
+class GoalDistanceField {
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final MazeGraph maze;
+    private final int version;
+    private final int[] distance;
+    private final byte[] nextHop; // wall bit of the side to leave through, 0 at goals and unreachable cells
+
+    GoalDistanceField(MazeGraph maze) {
+        this.maze = maze;
+        this.version = maze.getVersion();
+        this.distance = new int[maze.getCellCount()];
+        this.nextHop = new byte[maze.getCellCount()];
+        build();
+    }
+
+    private void build() {
+        Arrays.fill(distance, UNREACHABLE);
+        BucketQueue queue = new BucketQueue(maze.getCellCount(), MazeGraph.MAX_TERRAIN_COST);
+        boolean[] settled = new boolean[maze.getCellCount()];
+        int[] neighbors = new int[4];
+
+        for (int goal : maze.getFinishIndices()) {
+            distance[goal] = 0;
+            queue.insertOrDecrease(goal, 0);
+        }
+
+        while (!queue.isEmpty()) {
+            int cell = queue.poll();
+            settled[cell] = true;
+
+            // Stepping from a neighbor into this cell costs this cell's terrain
+            int newDist = distance[cell] + maze.getCost(cell);
+            int count = maze.getNeighbors(cell, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                if (!settled[neighbor] && newDist < distance[neighbor]) {
+                    distance[neighbor] = newDist;
+                    nextHop[neighbor] = (byte) directionTo(neighbor, cell);
+                    queue.insertOrDecrease(neighbor, newDist);
+                }
+            }
+        }
+    }
+
+    private int directionTo(int from, int to) {
+        int diff = to - from;
+        if (diff == 1) return MazeGraph.RIGHT;
+        if (diff == -1) return MazeGraph.LEFT;
+        return diff > 0 ? MazeGraph.BOTTOM : MazeGraph.TOP;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    public boolean isCurrent() {
+        return version == maze.getVersion();
+    }
+
+    // Cost to the nearest finish point, UNREACHABLE if there is no way out
+    public int getDistance(int cell) {
+        return distance[cell];
+    }
+
+    // Next cell on a cheapest path to a finish point, -1 at a finish point or when unreachable
+    public int getNextHop(int cell) {
+        switch (nextHop[cell]) {
+            case MazeGraph.TOP: return cell - maze.getCols();
+            case MazeGraph.BOTTOM: return cell + maze.getCols();
+            case MazeGraph.LEFT: return cell - 1;
+            case MazeGraph.RIGHT: return cell + 1;
+            default: return -1;
+        }
+    }
+
+    // Cheapest path from start to its nearest finish point, empty if none
+    public int[] pathFrom(int start) {
+        if (distance[start] == UNREACHABLE) {
+            return new int[0];
+        }
+        int length = 1;
+        for (int cell = getNextHop(start); cell != -1; cell = getNextHop(cell)) {
+            length++;
+        }
+        int[] path = new int[length];
+        path[0] = start;
+        for (int i = 1; i < length; i++) {
+            path[i] = getNextHop(path[i - 1]);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,57 @@
+package maze;
+
+// Answers queries towards the maze's own finish points by walking the precomputed
+// GoalDistanceField, so each solve is O(path length) with no search at all. Queries
+// with any other goal set fall back to a regular DialSolver search.
+class GoalFieldSolver extends MazeSolver {
+    private final DialSolver fallback;
+
+    public GoalFieldSolver(MazeGraph maze) {
+        super(maze);
+        this.fallback = new DialSolver(maze);
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        ctx.begin(goals);
+        if (!isFinishQuery(maze, ctx, goals)) {
+            return fallback.solve(ctx, start, goals);
+        }
+
+        GoalDistanceField field = maze.getGoalDistanceField();
+        if (field.getDistance(start) == GoalDistanceField.UNREACHABLE) {
+            return false;
+        }
+
+        ctx.retrace(start, -1, 0);
+        ctx.addStep(start);
+        int current = start;
+        for (int next = field.getNextHop(current); next != -1; next = field.getNextHop(current)) {
+            ctx.retrace(next, current, ctx.getDistance(current) + maze.getCost(next));
+            ctx.addStep(next);
+            current = next;
+        }
+        ctx.setGoal(current);
+        return true;
+    }
+
+    // True when the goals are exactly the maze's finish points, the set the field was
+    // built for. Call after ctx.begin(goals): the goal stamps make this O(goals) with
+    // no copying, since equal counts and every finish point stamped leave no room
+    // for a duplicate or a foreign goal.
+    static boolean isFinishQuery(MazeGraph maze, SearchContext ctx, int[] goals) {
+        int[] finish = maze.getFinishIndices();
+        if (goals == finish) {
+            return true;
+        }
+        if (goals.length != finish.length) {
+            return false;
+        }
+        for (int cell : finish) {
+            if (!ctx.isGoal(cell)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,236 @@
+package maze;
+
+import java.util.*;
+
+// HPA*: A* over the entrances of a ClusterGraph, then a local refinement of each
+// abstract hop into cells. The start and the goals are linked into the abstract
+// graph per query by one search inside their own clusters, so any start and goal
+// set works without touching the cached cluster data. Exact cluster costs make
+// the result optimal: same cost as DijkstraSolver.
+//
+// The heuristic is Manhattan distance times the cheapest terrain cost, as in
+// BidirectionalAStarSolver. The ClusterGraph is kept between queries and
+// repaired per cluster after edits, so one solver should live as long as its maze.
+class HierarchicalSolver extends MazeSolver {
+    private static final int[] NO_GOALS = new int[0];
+
+    private final ClusterGraph graph;
+
+    public HierarchicalSolver(MazeGraph maze) {
+        this(maze, ClusterGraph.DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HierarchicalSolver(MazeGraph maze, int clusterSize) {
+        super(maze);
+        this.graph = new ClusterGraph(maze, clusterSize);
+    }
+
+    ClusterGraph getClusterGraph() {
+        return graph;
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        graph.refresh();
+        ctx.begin(goals);
+        ctx.reach(start, -1, 0);
+        ctx.markVisited(start);
+        ctx.addStep(start);
+        if (ctx.isGoal(start)) {
+            ctx.setGoal(start);
+            return true;
+        }
+
+        ClusterGraph.LocalSearch local = graph.newLocalSearch();
+        PriorityFrontier pq = ctx.priorityFrontier(FrontierType.LAZY_BINARY);
+        Map<Integer, GoalLinks> goalLinks = linkGoals(goals, local);
+
+        // Link the start: everything reachable inside its cluster, plus its own exits
+        ClusterGraph.Cluster startCluster = graph.cluster(graph.clusterOf(start));
+        graph.search(startCluster, local, new int[] { start }, false);
+        for (int entrance : startCluster.entrances) {
+            relax(ctx, pq, entrance, start, local.distanceTo(startCluster, entrance), goals);
+        }
+        for (int goal : goals) {
+            if (startCluster.contains(goal)) {
+                relax(ctx, pq, goal, start, local.distanceTo(startCluster, goal), goals);
+            }
+        }
+        relaxExits(ctx, pq, startCluster, start, goals);
+
+        while (!pq.isEmpty()) {
+            int cell = pq.poll();
+
+            if (ctx.isVisited(cell)) {
+                ctx.countStalePop();
+                continue;
+            }
+
+            ctx.markVisited(cell);
+            ctx.addStep(cell);
+
+            if (ctx.isGoal(cell)) {
+                ctx.setGoal(cell);
+                refinePath(ctx, cell, local);
+                return true;
+            }
+
+            // Anything else in the frontier is an entrance
+            ClusterGraph.Cluster cluster = graph.cluster(graph.clusterOf(cell));
+            int slot = cluster.entranceSlot(cell);
+            int dist = ctx.getDistance(cell);
+            for (int j = 0; j < cluster.entrances.length; j++) {
+                int cost = cluster.cost(slot, j);
+                if (cost != ClusterGraph.UNREACHABLE) {
+                    relax(ctx, pq, cluster.entrances[j], cell, dist + cost, goals);
+                }
+            }
+            relaxExits(ctx, pq, cluster, cell, goals);
+
+            GoalLinks links = goalLinks.get(cluster.id);
+            if (links != null && links.distance[slot] != ClusterGraph.UNREACHABLE) {
+                relax(ctx, pq, links.goal[slot], cell, dist + links.distance[slot], goals);
+            }
+        }
+
+        return false;
+    }
+
+    // Steps from a cell across its cluster's border
+    private void relaxExits(SearchContext ctx, PriorityFrontier pq, ClusterGraph.Cluster cluster, int cell, int[] goals) {
+        int[] neighbors = ctx.neighbors;
+        int count = maze.getNeighbors(cell, neighbors);
+        int dist = ctx.getDistance(cell);
+        for (int i = 0; i < count; i++) {
+            int next = neighbors[i];
+            if (!cluster.contains(next)) {
+                relax(ctx, pq, next, cell, dist + maze.getCost(next), goals);
+            }
+        }
+    }
+
+    private void relax(SearchContext ctx, PriorityFrontier pq, int cell, int parent, int dist, int[] goals) {
+        if (dist != ClusterGraph.UNREACHABLE && !ctx.isVisited(cell) && dist < ctx.getDistance(cell)) {
+            ctx.reach(cell, parent, dist);
+            pq.offer(dist + heuristic(cell, goals), cell);
+        }
+    }
+
+    // For every cluster holding goals: cost from each of its entrances to the
+    // nearest goal inside it, found by one backward search from all its goals
+    private Map<Integer, GoalLinks> linkGoals(int[] goals, ClusterGraph.LocalSearch local) {
+        Map<Integer, List<Integer>> byCluster = new HashMap<>();
+        for (int goal : goals) {
+            byCluster.computeIfAbsent(graph.clusterOf(goal), id -> new ArrayList<>()).add(goal);
+        }
+        Map<Integer, GoalLinks> links = new HashMap<>();
+        for (Map.Entry<Integer, List<Integer>> entry : byCluster.entrySet()) {
+            ClusterGraph.Cluster cluster = graph.cluster(entry.getKey());
+            int[] sources = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+            graph.search(cluster, local, sources, true);
+
+            GoalLinks link = new GoalLinks(cluster.entrances.length);
+            for (int i = 0; i < cluster.entrances.length; i++) {
+                int localIndex = cluster.local(cluster.entrances[i]);
+                link.distance[i] = local.distance[localIndex];
+                link.goal[i] = local.root[localIndex];
+            }
+            links.put(cluster.id, link);
+        }
+        return links;
+    }
+
+    // Expands the abstract hops into cells: hops across a border are single steps,
+    // hops inside a cluster are re-searched there. Consecutive optimal pieces can
+    // touch the same cell when terrain costs nothing, so loops are cut out the same
+    // way BidirectionalSolver.joinPaths does.
+    private void refinePath(SearchContext ctx, int goal, ClusterGraph.LocalSearch local) {
+        int hops = 0;
+        for (int cell = goal; cell != -1; cell = ctx.getParent(cell)) {
+            hops++;
+        }
+        int[] abstractPath = new int[hops];
+        for (int cell = goal, i = hops - 1; cell != -1; cell = ctx.getParent(cell), i--) {
+            abstractPath[i] = cell;
+        }
+
+        int[] path = new int[16];
+        int length = 0;
+        path[length++] = abstractPath[0];
+        int[] segment = new int[graph.getClusterSize() * graph.getClusterSize()];
+        for (int i = 1; i < hops; i++) {
+            int from = abstractPath[i - 1];
+            int to = abstractPath[i];
+            ClusterGraph.Cluster cluster = graph.cluster(graph.clusterOf(from));
+            int pieces;
+            if (!cluster.contains(to)) {
+                segment[0] = to;
+                pieces = 1;
+            } else {
+                graph.search(cluster, local, new int[] { from }, false);
+                pieces = 0;
+                for (int l = cluster.local(to); l != -1 && local.parent[l] != -1; l = local.parent[l]) {
+                    segment[pieces++] = cluster.global(l);
+                }
+                reverse(segment, pieces);
+            }
+            if (length + pieces > path.length) {
+                path = Arrays.copyOf(path, Math.max(path.length * 2, length + pieces));
+            }
+            System.arraycopy(segment, 0, path, length, pieces);
+            length += pieces;
+        }
+
+        // Cut loops, using the companion's stamps as an index of cells kept so far
+        SearchContext index = ctx.companion();
+        index.begin(NO_GOALS);
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            int cell = path[i];
+            int at = index.getDistance(cell);
+            if (index.isReached(cell) && at < kept) {
+                kept = at + 1;
+            } else {
+                index.retrace(cell, -1, kept);
+                path[kept++] = cell;
+            }
+        }
+
+        int dist = 0;
+        for (int i = 1; i < kept; i++) {
+            dist += maze.getCost(path[i]);
+            ctx.retrace(path[i], path[i - 1], dist);
+        }
+        ctx.setGoal(path[kept - 1]);
+    }
+
+    private static void reverse(int[] values, int length) {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    private int heuristic(int cell, int[] goals) {
+        if (MazeGraph.MIN_TERRAIN_COST == 0) {
+            return 0;
+        }
+        int cols = maze.getCols();
+        int min = Integer.MAX_VALUE;
+        for (int goal : goals) {
+            min = Math.min(min, Math.abs(cell / cols - goal / cols) + Math.abs(cell % cols - goal % cols));
+        }
+        return MazeGraph.MIN_TERRAIN_COST * min;
+    }
+
+    private static class GoalLinks {
+        final int[] distance;
+        final int[] goal;
+
+        GoalLinks(int entrances) {
+            distance = new int[entrances];
+            goal = new int[entrances];
+        }
+    }
+}
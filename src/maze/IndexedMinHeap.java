@@ -0,0 +1,168 @@
+package maze;
+
+import java.util.Arrays;
+
+// Indexed d-ary min-heap over cell indices 0..capacity-1 with real decrease-key.
+// Each cell is in the heap at most once, so its size never exceeds the cell count.
+// Keys are longs so callers can pack composite keys (e.g. two ints) into one value.
+class IndexedMinHeap {
+    private final int arity;
+    private final int[] heap;     // heap slot -> cell
+    private final long[] keys;    // heap slot -> key
+    private final int[] position; // cell -> heap slot, -1 when absent
+    private int size;
+
+    public IndexedMinHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[Math.max(1, capacity)];
+        this.keys = new long[Math.max(1, capacity)];
+        this.position = new int[Math.max(1, capacity)];
+        Arrays.fill(position, -1);
+    }
+
+    public static IndexedMinHeap binary(int capacity) {
+        return new IndexedMinHeap(capacity, 2);
+    }
+
+    public static IndexedMinHeap quaternary(int capacity) {
+        return new IndexedMinHeap(capacity, 4);
+    }
+
+    // O(size), not O(capacity): only the cells still queued need their slot cleared
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int cell) {
+        return position[cell] >= 0;
+    }
+
+    public long getKey(int cell) {
+        return keys[position[cell]];
+    }
+
+    public long peekKey() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return keys[0];
+    }
+
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    // Inserts the cell, or lowers its key if it is already queued with a larger one.
+    // Returns false when the cell is queued with a key that is already <= key.
+    public boolean insertOrDecrease(int cell, long key) {
+        int slot = position[cell];
+        if (slot < 0) {
+            slot = size++;
+            position[cell] = slot;
+            siftUp(slot, cell, key);
+            return true;
+        }
+        if (key < keys[slot]) {
+            siftUp(slot, cell, key);
+            return true;
+        }
+        return false;
+    }
+
+    // Sets the key of a cell in either direction, inserting it if absent
+    public void update(int cell, long key) {
+        int slot = position[cell];
+        if (slot < 0 || key < keys[slot]) {
+            insertOrDecrease(cell, key);
+        } else {
+            siftDown(slot, cell, key);
+        }
+    }
+
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    public void remove(int cell) {
+        int slot = position[cell];
+        if (slot >= 0) {
+            removeAt(slot);
+        }
+    }
+
+    private void removeAt(int slot) {
+        int removed = heap[slot];
+        position[removed] = -1;
+        int n = --size;
+        if (slot == n) {
+            return;
+        }
+        int lastCell = heap[n];
+        long lastKey = keys[n];
+        if (lastKey < keys[slot]) {
+            siftUp(slot, lastCell, lastKey);
+        } else {
+            siftDown(slot, lastCell, lastKey);
+        }
+    }
+
+    private void siftUp(int slot, int cell, long key) {
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            if (key >= keys[parent]) break;
+            move(parent, slot);
+            slot = parent;
+        }
+        place(slot, cell, key);
+    }
+
+    private void siftDown(int slot, int cell, long key) {
+        while (true) {
+            int first = slot * arity + 1;
+            if (first >= size) break;
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int child = first + 1; child < last; child++) {
+                if (keys[child] < keys[best]) best = child;
+            }
+            if (key <= keys[best]) break;
+            move(best, slot);
+            slot = best;
+        }
+        place(slot, cell, key);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        position[heap[to]] = to;
+    }
+
+    private void place(int slot, int cell, long key) {
+        heap[slot] = cell;
+        keys[slot] = key;
+        position[cell] = slot;
+    }
+}
@@ -0,0 +1,89 @@
+package maze;
+
+import java.util.Arrays;
+
+// Binary min-heap of (key, value) int pairs. Stale entries are allowed and must be
+// skipped by the caller. The sift order mirrors java.util.PriorityQueue, so entries
+// with equal keys come out in exactly the same order as the old object-based queues.
+class IntHeap {
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int polledValue;
+
+    public IntHeap(int capacity) {
+        this.keys = new int[Math.max(1, capacity)];
+        this.values = new int[Math.max(1, capacity)];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void offer(int key, int value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        siftUp(size++, key, value);
+    }
+
+    public int peekKey() {
+        return keys[0];
+    }
+
+    // Removes the smallest entry and returns its key; the value is then read with polledValue()
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int key = keys[0];
+        polledValue = values[0];
+        int n = --size;
+        if (n > 0) {
+            siftDown(0, keys[n], values[n], n);
+        }
+        return key;
+    }
+
+    public int polledValue() {
+        return polledValue;
+    }
+
+    private void siftUp(int k, int key, int value) {
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (key >= keys[parent]) break;
+            keys[k] = keys[parent];
+            values[k] = values[parent];
+            k = parent;
+        }
+        keys[k] = key;
+        values[k] = value;
+    }
+
+    private void siftDown(int k, int key, int value, int n) {
+        int half = n >>> 1;
+        while (k < half) {
+            int child = (k << 1) + 1;
+            int right = child + 1;
+            if (right < n && keys[child] > keys[right]) {
+                child = right;
+            }
+            if (key <= keys[child]) break;
+            keys[k] = keys[child];
+            values[k] = values[child];
+            k = child;
+        }
+        keys[k] = key;
+        values[k] = value;
+    }
+}
@@ -0,0 +1,56 @@
+package maze;
+
+// FIFO ring buffer of ints, sized once and reused between solves
+class IntQueue {
+    private int[] items;
+    private int head, size;
+
+    public IntQueue(int capacity) {
+        this.items = new int[Math.max(1, capacity)];
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void offer(int value) {
+        if (size == items.length) {
+            grow();
+        }
+        int tail = head + size;
+        if (tail >= items.length) tail -= items.length;
+        items[tail] = value;
+        size++;
+    }
+
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        int value = items[head];
+        head++;
+        if (head == items.length) head = 0;
+        size--;
+        return value;
+    }
+
+    private void grow() {
+        int[] bigger = new int[items.length * 2];
+        for (int i = 0; i < size; i++) {
+            int j = head + i;
+            if (j >= items.length) j -= items.length;
+            bigger[i] = items[j];
+        }
+        items = bigger;
+        head = 0;
+    }
+}
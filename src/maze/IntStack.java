@@ -0,0 +1,39 @@
+package maze;
+
+import java.util.Arrays;
+
+// LIFO stack of ints, sized once and reused between solves
+class IntStack {
+    private int[] items;
+    private int size;
+
+    public IntStack(int capacity) {
+        this.items = new int[Math.max(1, capacity)];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void push(int value) {
+        if (size == items.length) {
+            items = Arrays.copyOf(items, items.length * 2);
+        }
+        items[size++] = value;
+    }
+
+    public int pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Stack is empty");
+        }
+        return items[--size];
+    }
+}
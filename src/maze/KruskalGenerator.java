@@ -0,0 +1,47 @@
+package maze;
+
+import java.util.Random;
+
+// Randomized Kruskal's algorithm: shuffle every interior wall, then knock a wall
+// down whenever the cells on either side are not yet connected (union-find).
+// Walls are packed as cell * 2 + (0 for the right wall, 1 for the bottom wall).
+class KruskalGenerator implements MazeGenerator {
+    static final int MAX_CELLS = 1 << 30;
+
+    @Override
+    public void carve(MazeGraph maze, long seed) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        if (maze.getCellCount() > MAX_CELLS) {
+            throw new IllegalArgumentException("Kruskal's generator supports at most " + MAX_CELLS + " cells");
+        }
+        Random random = new Random(seed);
+
+        int wallCount = rows * (cols - 1) + (rows - 1) * cols;
+        int[] walls = new int[wallCount];
+        int count = 0;
+        for (int cell = 0; cell < maze.getCellCount(); cell++) {
+            int col = cell % cols;
+            if (col < cols - 1) walls[count++] = cell * 2;
+            if (cell < (rows - 1) * cols) walls[count++] = cell * 2 + 1;
+        }
+
+        // Fisher-Yates shuffle
+        for (int i = wallCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = walls[i];
+            walls[i] = walls[j];
+            walls[j] = tmp;
+        }
+
+        UnionFind sets = new UnionFind(maze.getCellCount());
+        for (int wall : walls) {
+            int cell = wall >>> 1;
+            boolean down = (wall & 1) != 0;
+            int other = down ? cell + cols : cell + 1;
+            if (sets.union(cell, other)) {
+                maze.carvePassage(cell, down ? 2 : 1);
+            }
+        }
+    }
+}
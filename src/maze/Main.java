@@ -1,8 +1,13 @@
+package maze;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 
 public class Main {
+    // Latest solve, kept until its thread has stopped; only touched on the EDT
+    private static SolveTask runningSolve;
+
     public static void main(String[] args) {
         SwingUtilities.invokeLater(() -> {
             JFrame frame = new JFrame("Maze Solver - Pathfinding Algorithms Visualization");
@@ -25,50 +30,39 @@ public class Main {
             JButton bfsButton = createStyledButton("BFS", new Color(108, 92, 231));
             JButton dfsButton = createStyledButton("DFS", new Color(162, 155, 254));
             JButton dijkstraButton = createStyledButton("Dijkstra", new Color(46, 213, 115));
+            JButton dialButton = createStyledButton("Dial", new Color(38, 166, 154));
             JButton astarButton = createStyledButton("A* Algorithm", new Color(72, 219, 251));
             JButton resetButton = createStyledButton("Reset", new Color(255, 152, 0));
             JButton regenerateButton = createStyledButton("New Maze", new Color(255, 71, 87));
 
-            bfsButton.addActionListener(e -> {
-                BFSSolver solver = new BFSSolver(maze);
-                if (solver.solve()) {
-                    visualizer.animateSolution(solver.getPathSteps(), "BFS (Breadth-First Search)");
-                }
-            });
+            bfsButton.addActionListener(e -> startSolve(new BFSSolver(maze), visualizer, "BFS (Breadth-First Search)"));
 
-            dfsButton.addActionListener(e -> {
-                DFSSolver solver = new DFSSolver(maze);
-                if (solver.solve()) {
-                    visualizer.animateSolution(solver.getPathSteps(), "DFS (Depth-First Search)");
-                }
-            });
+            dfsButton.addActionListener(e -> startSolve(new DFSSolver(maze), visualizer, "DFS (Depth-First Search)"));
 
-            dijkstraButton.addActionListener(e -> {
-                DijkstraSolver solver = new DijkstraSolver(maze);
-                if (solver.solve()) {
-                    visualizer.animateSolution(solver.getPathSteps(), "Dijkstra's Algorithm");
-                }
-            });
+            dijkstraButton.addActionListener(e -> startSolve(new DijkstraSolver(maze), visualizer, "Dijkstra's Algorithm"));
 
-            astarButton.addActionListener(e -> {
-                AStarSolver solver = new AStarSolver(maze);
-                if (solver.solve()) {
-                    visualizer.animateSolution(solver.getPathSteps(), "A* Algorithm");
-                }
-            });
+            dialButton.addActionListener(e -> startSolve(new DialSolver(maze), visualizer, "Dijkstra (Dial's Buckets)"));
+
+            astarButton.addActionListener(e -> startSolve(new AStarSolver(maze), visualizer, "A* Algorithm"));
 
             resetButton.addActionListener(e -> {
+                cancelSolve();
                 visualizer.reset();
             });
 
             regenerateButton.addActionListener(e -> {
-                maze.generateMazeWithPrim();
+                cancelSolve();
                 visualizer.reset();
+                afterSolveStops(() -> {
+                    maze.generateMazeWithPrim();
+                    visualizer.reset();
+                });
             });
 
             controlPanel.add(bfsButton);
             controlPanel.add(dfsButton);
             controlPanel.add(dijkstraButton);
+            controlPanel.add(dialButton);
             controlPanel.add(astarButton);
             controlPanel.add(resetButton);
             controlPanel.add(regenerateButton);
@@ -159,6 +153,35 @@ public class Main {
         });
     }
 
+    // Solves off the EDT so large mazes keep the window responsive; a new solve
+    // replaces the one still running once that one has let go of the maze
+    private static void startSolve(MazeSolver solver, MazeVisualizer visualizer, String algorithm) {
+        afterSolveStops(() -> runningSolve = SolveTask.start(solver, visualizer, algorithm));
+    }
+
+    private static void cancelSolve() {
+        if (runningSolve != null) {
+            runningSolve.cancel();
+        }
+    }
+
+    // Runs the action on the EDT once no solve is using the maze. A solve started
+    // in the meantime is cancelled too, so the last queued action always wins.
+    private static void afterSolveStops(Runnable action) {
+        SolveTask task = runningSolve;
+        if (task == null) {
+            action.run();
+            return;
+        }
+        task.cancel();
+        task.whenStopped(() -> {
+            if (runningSolve == task) {
+                runningSolve = null;
+            }
+            afterSolveStops(action);
+        });
+    }
+
     private static JButton createStyledButton(String text, Color color) {
         JButton button = new JButton(text);
         button.setBackground(color);
@@ -0,0 +1,133 @@
+package maze;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Binary maze snapshot that can be memory-mapped back without copying.
+//
+// Layout (big-endian):
+//   int magic, int format version, int rows, int cols, long seed,
+//   int finish count, int[finish count] finish indices,
+//   zero padding up to a multiple of 8,
+//   rows * cols flag bytes (wall bits and FINISH, as in MazeGraph),
+//   rows * cols terrain bytes (Cell.TerrainType ordinals).
+//
+// The two cell sections use exactly the in-memory layout, so map() hands the
+// mapped regions to MazeGraph as its storage and solvers read walls and terrain
+// straight from the page cache. Opening a maze costs the same at any size, and
+// read-only mappings of one file share their pages across processes.
+//
+// map() checks the header and the finish indices but never reads the cell
+// sections, since that would fault in the whole file. Those are trusted: a
+// terrain byte that is no TerrainType ordinal fails later, in MazeGraph.getCost.
+class MazeFile {
+    static final int MAGIC = 0x4D415A45; // "MAZE"
+    static final int FORMAT_VERSION = 1;
+    static final int FIXED_HEADER_BYTES = 4 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+    // Keeps the padded header, and the buffer that reads the finish indices, within an int
+    static final int MAX_FINISH_COUNT = (Integer.MAX_VALUE - FIXED_HEADER_BYTES - 7) / Integer.BYTES;
+
+    private MazeFile() {
+    }
+
+    public static void save(MazeGraph maze, Path file) throws IOException {
+        int[] finishes = maze.getFinishIndices();
+        ByteBuffer header = ByteBuffer.allocate(headerSize(finishes.length));
+        header.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(maze.getRows())
+                .putInt(maze.getCols())
+                .putLong(maze.getSeed())
+                .putInt(finishes.length);
+        for (int finish : finishes) {
+            header.putInt(finish);
+        }
+        header.clear();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            writeFully(channel, maze.flagBuffer());
+            writeFully(channel, maze.terrainBuffer());
+        }
+    }
+
+    // Read-only mapping; any attempt to change the maze throws ReadOnlyBufferException
+    public static MazeGraph map(Path file) throws IOException {
+        return map(file, FileChannel.MapMode.READ_ONLY);
+    }
+
+    // READ_WRITE writes changes through to the file, PRIVATE keeps them in this process
+    public static MazeGraph map(Path file, FileChannel.MapMode mode) throws IOException {
+        boolean writable = mode != FileChannel.MapMode.READ_ONLY;
+        try (FileChannel channel = writable
+                ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer fixed = ByteBuffer.allocate(FIXED_HEADER_BYTES);
+            readFully(channel, fixed, 0);
+            fixed.flip();
+            if (fixed.getInt() != MAGIC) {
+                throw new IOException("Not a maze file: " + file);
+            }
+            int version = fixed.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported maze file version " + version + ": " + file);
+            }
+            int rows = fixed.getInt();
+            int cols = fixed.getInt();
+            long seed = fixed.getLong();
+            int finishCount = fixed.getInt();
+            long cells = (long) rows * cols;
+            if (rows <= 0 || cols <= 0 || cells > Integer.MAX_VALUE - 8 || finishCount < 0 || finishCount > cells
+                    || finishCount > MAX_FINISH_COUNT) {
+                throw new IOException("Corrupt maze header: " + file);
+            }
+
+            long dataOffset = headerSize(finishCount);
+            if (channel.size() != dataOffset + 2 * cells) {
+                throw new IOException("Maze file has " + channel.size() + " bytes, expected "
+                        + (dataOffset + 2 * cells) + ": " + file);
+            }
+
+            ByteBuffer finishBytes = ByteBuffer.allocate(finishCount * Integer.BYTES);
+            readFully(channel, finishBytes, FIXED_HEADER_BYTES);
+            finishBytes.flip();
+            int[] finishes = new int[finishCount];
+            for (int i = 0; i < finishCount; i++) {
+                finishes[i] = finishBytes.getInt();
+                if (finishes[i] < 0 || finishes[i] >= cells) {
+                    throw new IOException("Finish cell " + finishes[i] + " outside the maze: " + file);
+                }
+            }
+
+            // Mappings stay valid after the channel is closed
+            ByteBuffer flags = channel.map(mode, dataOffset, cells);
+            ByteBuffer terrain = channel.map(mode, dataOffset + cells, cells);
+            return new MazeGraph(rows, cols, seed, flags, terrain, finishes);
+        }
+    }
+
+    private static int headerSize(int finishCount) {
+        long size = FIXED_HEADER_BYTES + (long) finishCount * Integer.BYTES;
+        return (int) ((size + 7) & ~7L);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of maze file");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package maze;
+
+// Carves passages into a fully walled MazeGraph. Implementations must be
+// deterministic: the same maze size and seed always give the same passages.
+// MazeGraph.generate adds the entrance, finish points and terrain afterwards.
+interface MazeGenerator {
+    void carve(MazeGraph maze, long seed);
+}
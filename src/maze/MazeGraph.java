@@ -0,0 +1,461 @@
+package maze;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+class MazeGraph {
+    // Per-cell flag bits, stored one byte per cell in row*cols+col order
+    static final int TOP = 1;
+    static final int RIGHT = 2;
+    static final int BOTTOM = 4;
+    static final int LEFT = 8;
+    static final int ALL_WALLS = TOP | RIGHT | BOTTOM | LEFT;
+    static final int FINISH = 16;
+
+    static final long TERRAIN_SEED_SALT = 0x5DEECE66DL; // keeps terrain independent of the carving stream
+
+    private static final Cell.TerrainType[] TERRAINS = Cell.TerrainType.values();
+    private static final int[] TERRAIN_COSTS = new int[TERRAINS.length];
+    // Cheapest and dearest cost of entering any cell, for heuristics and bucket queues
+    static final int MIN_TERRAIN_COST;
+    static final int MAX_TERRAIN_COST;
+
+    static {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (Cell.TerrainType type : TERRAINS) {
+            TERRAIN_COSTS[type.ordinal()] = type.cost;
+            min = Math.min(min, type.cost);
+            max = Math.max(max, type.cost);
+        }
+        MIN_TERRAIN_COST = min;
+        MAX_TERRAIN_COST = max;
+    }
+
+    // Heap buffers normally; direct buffers when the maze is mapped from a MazeFile
+    private final ByteBuffer flags;
+    private final ByteBuffer terrain;
+    private final Cell[] cellCache; // null in compact mode, cells are then created on demand
+    private int rows, cols;
+    private Random random;
+    private List<Cell> finishCells; // NEW: Multiple finish points
+    private int[] finishIndices = new int[0];
+    private long seed; // seed of the last generate() call
+    private int version; // bumped whenever walls, terrain or finish points change
+
+    // Cells touched by single-cell edits since changeLogBase, with the version each
+    // edit produced. generate() and an overflowing log reset the base, telling
+    // incremental solvers that only a full replan is safe.
+    private static final int CHANGE_LOG_CAPACITY = 4096;
+    private int[] changedCells = new int[16];
+    private int[] changedVersions = new int[16];
+    private int changeCount;
+    private int changeLogBase;
+    private GoalDistanceField goalField;
+    private CorridorGraph corridorGraph;
+    private TreeIndex treeIndex;
+
+    public MazeGraph(int rows, int cols) {
+        this(rows, cols, false);
+    }
+
+    // Compact mode keeps only the primitive arrays (2 bytes per cell) and never
+    // caches Cell objects, which is what lets mazes of 100M+ cells fit on the heap.
+    public MazeGraph(int rows, int cols, boolean compact) {
+        checkSize(rows, cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.flags = ByteBuffer.wrap(new byte[rows * cols]);
+        this.terrain = ByteBuffer.wrap(new byte[rows * cols]);
+        this.cellCache = compact ? null : new Cell[rows * cols];
+        this.random = new Random();
+        this.finishCells = new ArrayList<>();
+        initializeGrid();
+    }
+
+    // Wraps existing cell storage without copying it (see MazeFile). The maze is
+    // always compact; flags must already carry the FINISH bit of every finish index.
+    MazeGraph(int rows, int cols, long seed, ByteBuffer flags, ByteBuffer terrain, int[] finishIndices) {
+        checkSize(rows, cols);
+        if (flags.capacity() != rows * cols || terrain.capacity() != rows * cols) {
+            throw new IllegalArgumentException("Cell storage does not match " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.seed = seed;
+        this.flags = flags;
+        this.terrain = terrain;
+        this.cellCache = null;
+        this.random = new Random(seed ^ TERRAIN_SEED_SALT);
+        this.finishCells = new ArrayList<>();
+        this.finishIndices = finishIndices.clone();
+        for (int index : this.finishIndices) {
+            finishCells.add(getCell(index));
+        }
+    }
+
+    private static void checkSize(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Unsupported maze size: " + rows + "x" + cols);
+        }
+    }
+
+    private void initializeGrid() {
+        fill(flags, (byte) ALL_WALLS);
+        fill(terrain, (byte) Cell.TerrainType.DEFAULT.ordinal());
+        if (cellCache != null) {
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < cols; j++) {
+                    cellCache[i * cols + j] = new Cell(this, i, j);
+                }
+            }
+        }
+    }
+
+    public void generateMazeWithPrim() {
+        generate(new PrimGenerator(), random.nextLong());
+    }
+
+    // Reproducible variant: the same seed always yields the same maze and terrain
+    public void generateMazeWithPrim(long seed) {
+        generate(new PrimGenerator(), seed);
+    }
+
+    // Rebuilds the maze from a fully walled grid with the given generator, then adds
+    // the entrance, the finish points and terrain. Same generator and seed, same maze.
+    public void generate(MazeGenerator generator, long seed) {
+        fill(flags, (byte) ALL_WALLS);
+        this.seed = seed;
+        random = new Random(seed ^ TERRAIN_SEED_SALT);
+
+        generator.carve(this, seed);
+
+        // Create entrance and exit
+        clearWall(index(0, 0), TOP);
+        clearWall(index(rows-1, cols-1), BOTTOM);
+
+        // NEW: Set up three finish points
+        setupFinishPoints();
+
+        // Assign random terrain types
+        assignRandomTerrain();
+
+        version++;
+        changeCount = 0;
+        changeLogBase = version;
+    }
+
+    // NEW: Set up three finish points
+    private void setupFinishPoints() {
+        for (Cell finish : finishCells) {
+            setFlag(finish.getIndex(), FINISH, false);
+        }
+        finishCells.clear();
+
+        // Finish point 1: bottom-right corner (original)
+        addFinishPoint(rows-1, cols-1);
+
+        // Finish point 2: bottom-left corner
+        addFinishPoint(rows-1, 0);
+        clearWall(index(rows-1, 0), BOTTOM);
+
+        // Finish point 3: middle-right edge
+        int midRow = rows / 2;
+        addFinishPoint(midRow, cols-1);
+        clearWall(index(midRow, cols-1), RIGHT);
+
+        finishIndices = new int[finishCells.size()];
+        for (int i = 0; i < finishIndices.length; i++) {
+            finishIndices[i] = finishCells.get(i).getIndex();
+        }
+    }
+
+    private void addFinishPoint(int row, int col) {
+        int index = index(row, col);
+        if (!hasFlag(index, FINISH)) {
+            setFlag(index, FINISH, true);
+            finishCells.add(getCell(row, col));
+        }
+    }
+
+    // NEW: Check if a cell is any finish point
+    public boolean isFinishPoint(Cell cell) {
+        return isFinishPoint(cell.getIndex());
+    }
+
+    public boolean isFinishPoint(int index) {
+        return hasFlag(index, FINISH);
+    }
+
+    // NEW: Get all finish points
+    public List<Cell> getFinishCells() {
+        return finishCells;
+    }
+
+    // Finish points as cell indices; shared array, callers must not modify it
+    int[] getFinishIndices() {
+        return finishIndices;
+    }
+
+    private void assignRandomTerrain() {
+        for (int i = 0; i < rows * cols; i++) {
+            writeTerrain(i, randomTerrain(random));
+        }
+        // Keep start and all finish points as default
+        writeTerrain(0, Cell.TerrainType.DEFAULT);
+        for (Cell finish : finishCells) {
+            writeTerrain(finish.getIndex(), Cell.TerrainType.DEFAULT);
+        }
+    }
+
+    // One terrain draw; shared with StreamingMazeFile so both produce the same terrain
+    static Cell.TerrainType randomTerrain(Random random) {
+        // 40% default, 30% grass, 20% mud, 10% water
+        int rand = random.nextInt(100);
+        if (rand < 40) {
+            return Cell.TerrainType.DEFAULT;
+        } else if (rand < 70) {
+            return Cell.TerrainType.GRASS;
+        } else if (rand < 90) {
+            return Cell.TerrainType.MUD;
+        } else {
+            return Cell.TerrainType.WATER;
+        }
+    }
+
+    public List<Cell> getNeighbors(Cell cell) {
+        List<Cell> neighbors = new ArrayList<>();
+        int r = cell.row;
+        int c = cell.col;
+        int f = flags.get(cell.getIndex());
+
+        if (r > 0 && (f & TOP) == 0) neighbors.add(getCell(r-1, c));
+        if (r < rows-1 && (f & BOTTOM) == 0) neighbors.add(getCell(r+1, c));
+        if (c > 0 && (f & LEFT) == 0) neighbors.add(getCell(r, c-1));
+        if (c < cols-1 && (f & RIGHT) == 0) neighbors.add(getCell(r, c+1));
+
+        return neighbors;
+    }
+
+    // Allocation-free variant for the solver hot path: writes the open neighbors of a
+    // cell into out (length >= 4) in the same top, bottom, left, right order and
+    // returns how many were written
+    public int getNeighbors(int index, int[] out) {
+        int r = index / cols;
+        int c = index - r * cols;
+        int f = flags.get(index);
+        int count = 0;
+
+        if (r > 0 && (f & TOP) == 0) out[count++] = index - cols;
+        if (r < rows-1 && (f & BOTTOM) == 0) out[count++] = index + cols;
+        if (c > 0 && (f & LEFT) == 0) out[count++] = index - 1;
+        if (c < cols-1 && (f & RIGHT) == 0) out[count++] = index + 1;
+
+        return count;
+    }
+
+    public Cell getCell(int row, int col) {
+        if (cellCache != null) {
+            return cellCache[row * cols + col];
+        }
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", " + col + ") outside " + rows + "x" + cols);
+        }
+        return new Cell(this, row, col);
+    }
+
+    public Cell getCell(int index) {
+        return getCell(index / cols, index % cols);
+    }
+
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    public boolean hasWall(int index, int wall) {
+        return (flags.get(index) & wall) != 0;
+    }
+
+    private boolean hasFlag(int index, int flag) {
+        return (flags.get(index) & flag) != 0;
+    }
+
+    private void setFlag(int index, int flag, boolean on) {
+        if (on) {
+            flags.put(index, (byte) (flags.get(index) | flag));
+        } else {
+            flags.put(index, (byte) (flags.get(index) & ~flag));
+        }
+    }
+
+    private void clearWall(int index, int wall) {
+        flags.put(index, (byte) (flags.get(index) & ~wall));
+    }
+
+    // Editing API for small changes to a generated maze. wall is TOP, RIGHT, BOTTOM
+    // or LEFT; the matching wall of the neighbor changes with it. Every edit bumps
+    // the version and is logged for incremental solvers.
+    public void openWall(int index, int wall) {
+        setWall(index, wall, false);
+    }
+
+    public void closeWall(int index, int wall) {
+        setWall(index, wall, true);
+    }
+
+    private void setWall(int index, int wall, boolean closed) {
+        if (wall != (wall & ALL_WALLS) || Integer.bitCount(wall) != 1) {
+            throw new IllegalArgumentException("Not a single wall: " + wall);
+        }
+        int side = Integer.numberOfTrailingZeros(wall);
+        int neighbor = hasNeighbor(index, side) ? index + sideOffset(side) : -1;
+        int oppositeWall = 1 << (side ^ 2);
+        flags.put(index, (byte) (closed ? flags.get(index) | wall : flags.get(index) & ~wall));
+        if (neighbor >= 0) {
+            flags.put(neighbor, (byte) (closed ? flags.get(neighbor) | oppositeWall : flags.get(neighbor) & ~oppositeWall));
+        }
+        version++;
+        logChange(index);
+        if (neighbor >= 0) {
+            logChange(neighbor);
+        }
+    }
+
+    public void setTerrain(int index, Cell.TerrainType type) {
+        writeTerrain(index, type);
+        version++;
+        logChange(index);
+    }
+
+    private boolean hasNeighbor(int index, int side) {
+        switch (side) {
+            case 0: return index >= cols;
+            case 1: return index % cols < cols - 1;
+            case 2: return index < (rows - 1) * cols;
+            default: return index % cols > 0;
+        }
+    }
+
+    private void logChange(int cell) {
+        if (changeCount == CHANGE_LOG_CAPACITY) {
+            changeCount = 0;
+            changeLogBase = version;
+            return;
+        }
+        if (changeCount == changedCells.length) {
+            changedCells = Arrays.copyOf(changedCells, changeCount * 2);
+            changedVersions = Arrays.copyOf(changedVersions, changeCount * 2);
+        }
+        changedCells[changeCount] = cell;
+        changedVersions[changeCount] = version;
+        changeCount++;
+    }
+
+    // Cells edited after sinceVersion, possibly with repeats, or null if the log
+    // no longer reaches back that far (the maze was regenerated or edited too much)
+    int[] getChangedCellsSince(int sinceVersion) {
+        if (sinceVersion < changeLogBase) {
+            return null;
+        }
+        int first = changeCount;
+        while (first > 0 && changedVersions[first - 1] > sinceVersion) {
+            first--;
+        }
+        return Arrays.copyOfRange(changedCells, first, changeCount);
+    }
+
+    // Generator hooks. side is 0..3 for top, right, bottom, left, i.e. the bit index
+    // of the wall; carving removes the wall on both cells. Distinct cells may be
+    // carved from different threads at the same time.
+    void carvePassage(int index, int side) {
+        int target = index + sideOffset(side);
+        flags.put(index, (byte) (flags.get(index) & ~(1 << side)));
+        flags.put(target, (byte) (flags.get(target) & ~(1 << (side ^ 2))));
+    }
+
+    void setWallBits(int index, int walls) {
+        flags.put(index, (byte) ((flags.get(index) & ~ALL_WALLS) | (walls & ALL_WALLS)));
+    }
+
+    // Index offset to the neighbor behind side 0..3 (top, right, bottom, left)
+    int sideOffset(int side) {
+        switch (side) {
+            case 0: return -cols;
+            case 1: return 1;
+            case 2: return cols;
+            default: return -1;
+        }
+    }
+
+    public Cell.TerrainType getTerrain(int index) {
+        return TERRAINS[terrain.get(index)];
+    }
+
+    public int getCost(int index) {
+        return TERRAIN_COSTS[terrain.get(index)];
+    }
+
+    private void writeTerrain(int index, Cell.TerrainType type) {
+        terrain.put(index, (byte) type.ordinal());
+    }
+
+    private static void fill(ByteBuffer buffer, byte value) {
+        if (buffer.hasArray()) {
+            Arrays.fill(buffer.array(), buffer.arrayOffset(), buffer.arrayOffset() + buffer.capacity(), value);
+        } else {
+            for (int i = 0; i < buffer.capacity(); i++) {
+                buffer.put(i, value);
+            }
+        }
+    }
+
+    // Read-only views of the raw cell bytes, one per cell in index order
+    ByteBuffer flagBuffer() {
+        return flags.asReadOnlyBuffer().clear();
+    }
+
+    ByteBuffer terrainBuffer() {
+        return terrain.asReadOnlyBuffer().clear();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    // Distance-to-nearest-finish field, built on first use and rebuilt only after
+    // the maze has changed
+    public synchronized GoalDistanceField getGoalDistanceField() {
+        if (goalField == null || goalField.getVersion() != version) {
+            goalField = new GoalDistanceField(this);
+        }
+        return goalField;
+    }
+
+    // Corridor-collapsed view of the maze, built on first use per version
+    public synchronized CorridorGraph getCorridorGraph() {
+        if (corridorGraph == null || corridorGraph.getVersion() != version) {
+            corridorGraph = new CorridorGraph(this);
+        }
+        return corridorGraph;
+    }
+
+    // Spanning-tree path index, built on first use per version; see TreeIndex.isTree()
+    public synchronized TreeIndex getTreeIndex() {
+        if (treeIndex == null || treeIndex.getVersion() != version) {
+            treeIndex = new TreeIndex(this);
+        }
+        return treeIndex;
+    }
+
+    public boolean isCompact() {
+        return cellCache == null;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int getCellCount() { return rows * cols; }
+}
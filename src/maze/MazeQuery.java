@@ -0,0 +1,24 @@
+package maze;
+
+// One path query against a maze: a start cell and the goal cells, any of which ends the search
+class MazeQuery {
+    final int start;
+    final int[] goals;
+
+    public MazeQuery(int start, int[] goals) {
+        if (goals.length == 0) {
+            throw new IllegalArgumentException("A query needs at least one goal cell");
+        }
+        this.start = start;
+        this.goals = goals;
+    }
+
+    public static MazeQuery of(MazeGraph maze, int startRow, int startCol, int goalRow, int goalCol) {
+        return new MazeQuery(maze.index(startRow, startCol), new int[] { maze.index(goalRow, goalCol) });
+    }
+
+    // The query solve() runs: top-left corner to every finish point
+    public static MazeQuery toFinishPoints(MazeGraph maze, int start) {
+        return new MazeQuery(start, maze.getFinishIndices().clone());
+    }
+}
@@ -0,0 +1,95 @@
+package maze;
+
+import java.util.*;
+
+// Solvers hold only configuration; all per-query state lives in a SearchContext.
+// solve(context, start, goals) may be called from many threads at once on the same
+// solver and maze, one context per thread. solve() is the single-threaded
+// convenience form for the default query (top-left corner to the maze's finish
+// points) that keeps its own context so the explored steps can be read back afterwards.
+abstract class MazeSolver {
+    protected final MazeGraph maze;
+    private SearchContext context;
+    private SolverMetrics.Algorithm metrics;
+
+    public MazeSolver(MazeGraph maze) {
+        this.maze = maze;
+    }
+
+    public SolveResult solve() {
+        if (context == null) {
+            context = SearchContext.forMaze(maze);
+        }
+        return solve(context, MazeQuery.toFinishPoints(maze, maze.index(0, 0)));
+    }
+
+    public boolean solve(SearchContext context) {
+        return solve(context, maze.index(0, 0), maze.getFinishIndices());
+    }
+
+    // Searches from start until any of the goal cells is reached
+    public abstract boolean solve(SearchContext context, int start, int[] goals);
+
+    // Runs one query and packages path, cost, explored count and time
+    public SolveResult solve(SearchContext context, MazeQuery query) {
+        long startTime = System.nanoTime();
+        boolean found = solve(context, query.start, query.goals);
+        long searchEnd = System.nanoTime();
+        int[] path = found ? context.getPath() : new int[0];
+        long end = System.nanoTime();
+        if (SolverMetrics.ENABLED && metrics != null) {
+            metrics.record(context, found, searchEnd - startTime, end - searchEnd);
+        }
+        return new SolveResult(query, found, path, pathCost(path), context.getStepCount(), end - startTime);
+    }
+
+    // Records every solve(context, query) under this solver's class name; a no-op
+    // unless metrics are enabled with -Dmaze.metrics=true
+    public void setMetrics(SolverMetrics registry) {
+        setMetrics(registry, getClass().getSimpleName());
+    }
+
+    public void setMetrics(SolverMetrics registry, String algorithm) {
+        this.metrics = registry == null ? null : registry.algorithm(algorithm);
+    }
+
+    // Exploration order of the last solve() as a read-only view
+    public List<Cell> getPathSteps() {
+        SearchContext ctx = context;
+        if (ctx == null) {
+            return Collections.emptyList();
+        }
+        return new AbstractList<Cell>() {
+            @Override
+            public Cell get(int i) {
+                if (i < 0 || i >= ctx.getStepCount()) {
+                    throw new IndexOutOfBoundsException("Step " + i + " of " + ctx.getStepCount());
+                }
+                return maze.getCell(ctx.getStep(i));
+            }
+
+            @Override
+            public int size() {
+                return ctx.getStepCount();
+            }
+        };
+    }
+
+    // Solution path of the last solve() as cell indices, start first
+    public int[] getPath() {
+        return context == null ? new int[0] : context.getPath();
+    }
+
+    public int getExploredCount() {
+        return context == null ? 0 : context.getStepCount();
+    }
+
+    // Terrain cost of walking a path: every cell entered after the start
+    public int pathCost(int[] path) {
+        int cost = 0;
+        for (int i = 1; i < path.length; i++) {
+            cost += maze.getCost(path[i]);
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,852 @@
+package maze;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.geom.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// Shows a window onto the maze that can be zoomed with the mouse wheel and panned
+// by dragging; a double click fits the whole maze again. Only cells inside the
+// window are ever drawn, so the cost of a frame depends on the window size, not
+// on the maze size.
+//
+// The visible cells plus a margin are rendered into offscreen layers: an opaque
+// layer with terrain, exploration and path, and a transparent wall layer on top.
+// A frame copies the two layers; an animation tick or a maze edit redraws only
+// the affected cells in them, and panning past the margin or zooming renders the
+// window afresh.
+//
+// Detail drops as cells get smaller: from DETAIL_CELL_SIZE down cost labels,
+// rounded corners, shadows and ripples go; below MARKER_CELL_SIZE the markers go;
+// below RASTER_CELL_SIZE cells are written straight into an int[] raster with one
+// flat color each and one-pixel walls.
+class MazeVisualizer extends JPanel {
+    private MazeGraph maze;
+    private int[] stepCells;  // exploration order of the current animation
+    private int stepCount;    // steps received so far; stepCells may be larger
+    private int[] stepIndex;  // first step at which each cell was explored, NOT_EXPLORED otherwise
+    private int gradientSteps; // steps the exploration color gradient is spread over
+    private boolean streaming; // the search is still running and sending steps
+    private int[] solutionPath = new int[0];
+    private final BitSet pathCells = new BitSet();
+    private int currentStep;
+    private final Timer frameClock = new Timer(FRAME_MILLIS, e -> onFrame());
+    private boolean solving;        // a solve animation is running
+    private boolean failed;         // the search threw before it finished
+    private long nextStepNanos;     // when the animation is due to show its next step
+    private long frameNanos;        // time of the current frame, shared by all markers
+    private int totalCost;
+    private int pathCost;
+    private int cellsExplored;
+    private String currentAlgorithm;
+    private int animationSpeed = 5; // NEW: Speed control (1=slow, 10=fast)
+    private static final int CELL_SIZE = 40;
+    private static final int MARGIN = 30;
+    private static final int WALL_THICKNESS = 3;
+    private static final int INFO_PANEL_HEIGHT = 100;
+    private static final int NOT_EXPLORED = Integer.MAX_VALUE;
+    private static final int RIPPLE_STEPS = 5;
+    private static final int MARKER_REACH = 24; // half the size of a marker's outer glow, plus antialiasing
+    private static final int MAX_GRID_EXTENT = 1600; // pixels the grid may take in the initial window size
+    private static final int MIN_CELL_SIZE = 1;
+    private static final int MAX_CELL_SIZE = 80;
+    private static final int DETAIL_CELL_SIZE = 20;
+    private static final int MARKER_CELL_SIZE = 12;
+    private static final int RASTER_CELL_SIZE = 8;
+    private static final double ZOOM_STEP = 1.25;
+    private static final int FRAME_MILLIS = 16; // frame clock period, caps animation at about 60 fps
+
+    // Zoom in pixels per cell, and pan as the grid pixel shown at the window's corner
+    private int cellSize;
+    private int viewX;
+    private int viewY;
+    private Point dragStart;
+
+    // Rendered cells [cacheRow, cacheRow + cacheRows) x [cacheCol, cacheCol + cacheCols)
+    // at cacheCellSize, valid for layerVersion of the maze. Vector layers reach
+    // WALL_THICKNESS past the cells on every side for the wall overhang.
+    private int cacheRow, cacheCol, cacheRows, cacheCols;
+    private int cacheCellSize = -1;
+    private BufferedImage terrainLayer;
+    private BufferedImage wallLayer;
+    private BufferedImage rasterImage;
+    private int[] rasterPixels;
+    private int layerVersion = -1;
+
+    // Paint objects are shared by every cell and frame. Cells are drawn in CELL_SIZE
+    // units with the graphics translated to the cell's corner and scaled to the
+    // zoom, so one shape and one gradient serve the whole grid.
+    private static final RoundRectangle2D CELL_SHAPE = new RoundRectangle2D.Double(
+            2, 2, CELL_SIZE - 4, CELL_SIZE - 4, 10, 10);
+    private static final Rectangle2D PLAIN_CELL_SHAPE = new Rectangle2D.Double(
+            2, 2, CELL_SIZE - 4, CELL_SIZE - 4);
+    private static final RoundRectangle2D RIPPLE_SHAPE = new RoundRectangle2D.Double(
+            1, 1, CELL_SIZE - 2, CELL_SIZE - 2, 10, 10);
+    private static final GradientPaint PATH_PAINT = new GradientPaint(
+            0, 0, new Color(255, 193, 7), CELL_SIZE, CELL_SIZE, new Color(255, 87, 34));
+    private static final Color BACKGROUND = new Color(245, 245, 250);
+    private static final Color SPARKLE_COLOR = new Color(255, 255, 255, 100);
+    private static final Color COST_TEXT_COLOR = new Color(0, 0, 0, 80);
+    private static final Color INNER_SHADOW_COLOR = new Color(0, 0, 0, 20);
+    private static final Color WALL_COLOR = new Color(52, 73, 94);
+    private static final Color PATH_COLOR = new Color(255, 140, 20); // middle of PATH_PAINT
+    private static final Color[] EXPLORED_COLORS = new Color[106]; // alpha 150 .. 255
+    private static final int[] EXPLORED_RGB = new int[EXPLORED_COLORS.length]; // the same over the background
+    private static final Color[] RIPPLE_COLORS = new Color[RIPPLE_STEPS];
+    private static final BasicStroke RIPPLE_STROKE = new BasicStroke(2);
+    private static final BasicStroke WALL_STROKE = new BasicStroke(WALL_THICKNESS, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+    private static final BasicStroke MARKER_STROKE = new BasicStroke(2.5f);
+    private static final Font COST_FONT = new Font("Arial", Font.BOLD, 11);
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 18);
+    private static final Font STATS_FONT = new Font("Arial", Font.BOLD, 14);
+    private static final Font STATUS_FONT = new Font("Arial", Font.PLAIN, 12);
+    private static final Font MARKER_FONT = new Font("Arial", Font.BOLD, 9);
+    private static final String[] COST_LABELS = new String[Cell.TerrainType.values().length];
+
+    static {
+        for (int i = 0; i < EXPLORED_COLORS.length; i++) {
+            EXPLORED_COLORS[i] = new Color(103, 58, 183, 150 + i);
+            EXPLORED_RGB[i] = blend(EXPLORED_COLORS[i], BACKGROUND);
+        }
+        for (int age = 0; age < RIPPLE_STEPS; age++) {
+            RIPPLE_COLORS[age] = new Color(103, 58, 183, (int) (50 * (RIPPLE_STEPS - age) / (double) RIPPLE_STEPS));
+        }
+        for (Cell.TerrainType type : Cell.TerrainType.values()) {
+            COST_LABELS[type.ordinal()] = String.valueOf(type.cost);
+        }
+    }
+
+    private static int blend(Color over, Color under) {
+        float alpha = over.getAlpha() / 255f;
+        int r = Math.round(over.getRed() * alpha + under.getRed() * (1 - alpha));
+        int g = Math.round(over.getGreen() * alpha + under.getGreen() * (1 - alpha));
+        int b = Math.round(over.getBlue() * alpha + under.getBlue() * (1 - alpha));
+        return 0xFF000000 | r << 16 | g << 8 | b;
+    }
+
+    public MazeVisualizer(MazeGraph maze) {
+        this.maze = maze;
+        this.currentStep = 0;
+        this.totalCost = 0;
+        this.cellsExplored = 0;
+        this.currentAlgorithm = "";
+        this.cellSize = fittingCellSize(MAX_GRID_EXTENT, MAX_GRID_EXTENT);
+        // Even at the smallest cell size a huge grid would outgrow the screen; past
+        // MAX_GRID_EXTENT the rest is reached by zooming and panning
+        setPreferredSize(new Dimension(
+                Math.min(maze.getCols() * cellSize, MAX_GRID_EXTENT) + 2 * MARGIN,
+                Math.min(maze.getRows() * cellSize, MAX_GRID_EXTENT) + 2 * MARGIN + INFO_PANEL_HEIGHT
+        ));
+        setBackground(BACKGROUND);
+        installNavigation();
+    }
+
+    // Wheel zooms around the pointer, dragging pans, a double click fits the maze
+    private void installNavigation() {
+        MouseAdapter navigation = new MouseAdapter() {
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoomAt(e.getX(), e.getY(), Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()));
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragStart = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragStart != null) {
+                    panBy(dragStart.x - e.getX(), dragStart.y - e.getY());
+                    dragStart = e.getPoint();
+                }
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                dragStart = null;
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    fitToView();
+                }
+            }
+        };
+        addMouseListener(navigation);
+        addMouseMotionListener(navigation);
+        addMouseWheelListener(navigation);
+    }
+
+    // Zooms by factor keeping the grid point under (x, y) in place
+    public void zoomAt(int x, int y, double factor) {
+        int newSize = (int) Math.round(cellSize * factor);
+        if (newSize == cellSize && factor != 1) {
+            newSize += factor > 1 ? 1 : -1;
+        }
+        newSize = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, newSize));
+        if (newSize == cellSize) {
+            return;
+        }
+        double gridX = (x - MARGIN + viewX) / (double) cellSize;
+        double gridY = (y - MARGIN - INFO_PANEL_HEIGHT + viewY) / (double) cellSize;
+        cellSize = newSize;
+        viewX = (int) Math.round(gridX * cellSize) - (x - MARGIN);
+        viewY = (int) Math.round(gridY * cellSize) - (y - MARGIN - INFO_PANEL_HEIGHT);
+        clampView();
+        repaint();
+    }
+
+    public void panBy(int dx, int dy) {
+        viewX += dx;
+        viewY += dy;
+        clampView();
+        repaint();
+    }
+
+    public void fitToView() {
+        Rectangle view = viewport();
+        cellSize = fittingCellSize(view.width, view.height);
+        viewX = 0;
+        viewY = 0;
+        clampView();
+        repaint();
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    private int fittingCellSize(int width, int height) {
+        int size = Math.min(width / maze.getCols(), height / maze.getRows());
+        return Math.max(MIN_CELL_SIZE, Math.min(CELL_SIZE, size));
+    }
+
+    // A grid smaller than the window moves freely inside it; a larger one always covers it
+    private void clampView() {
+        Rectangle view = viewport();
+        int spareX = maze.getCols() * cellSize - view.width;
+        int spareY = maze.getRows() * cellSize - view.height;
+        viewX = Math.max(Math.min(0, spareX), Math.min(Math.max(0, spareX), viewX));
+        viewY = Math.max(Math.min(0, spareY), Math.min(Math.max(0, spareY), viewY));
+    }
+
+    // Panel area the grid is shown in
+    private Rectangle viewport() {
+        int top = MARGIN + INFO_PANEL_HEIGHT;
+        return new Rectangle(MARGIN, top, Math.max(0, getWidth() - 2 * MARGIN), Math.max(0, getHeight() - top - MARGIN));
+    }
+
+    private int screenX(int col) {
+        return MARGIN + col * cellSize - viewX;
+    }
+
+    private int screenY(int row) {
+        return MARGIN + INFO_PANEL_HEIGHT + row * cellSize - viewY;
+    }
+
+    // NEW: Set animation speed
+    public void setAnimationSpeed(int speed) {
+        this.animationSpeed = speed;
+    }
+
+    // NEW: Calculate delay based on speed (1-10 scale)
+    private int getDelayForSpeed(int speed) {
+        // Speed 1 = 200ms, Speed 5 = 40ms, Speed 10 = 5ms
+        return Math.max(5, 210 - speed * 20);
+    }
+
+    // Indexes the exploration order once, so painting a cell looks up its step in O(1)
+    public void animateSolution(List<Cell> steps, SolveResult result, String algorithm) {
+        int[] cells = new int[steps.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = steps.get(i).getIndex();
+        }
+        beginSolution(algorithm);
+        appendSteps(cells, cells.length);
+        finishSolution(result);
+    }
+
+    // Starts animating a search that is still running: its steps arrive through
+    // appendSteps and are shown as they come due, and finishSolution adds the path
+    public void beginSolution(String algorithm) {
+        stepCells = new int[Math.min(maze.getCellCount(), 4096)];
+        stepCount = 0;
+        stepIndex = new int[maze.getCellCount()];
+        Arrays.fill(stepIndex, NOT_EXPLORED);
+        // Until the search ends the gradient is spread over the whole maze
+        gradientSteps = maze.getCellCount();
+        streaming = true;
+        failed = false;
+        this.solutionPath = new int[0];
+        this.pathCost = 0;
+        pathCells.clear();
+        this.currentStep = 0;
+        this.currentAlgorithm = algorithm;
+        this.cellsExplored = 0;
+        this.totalCost = 0;
+
+        cacheCellSize = -1;
+        repaint();
+
+        solving = true;
+        nextStepNanos = System.nanoTime() + getDelayForSpeed(animationSpeed) * 1_000_000L;
+        frameClock.start();
+    }
+
+    public void appendSteps(int[] cells, int count) {
+        if (stepCount + count > stepCells.length) {
+            stepCells = Arrays.copyOf(stepCells, Math.max(stepCount + count, stepCells.length * 2));
+        }
+        for (int i = 0; i < count; i++) {
+            int cell = cells[i];
+            stepCells[stepCount] = cell;
+            if (stepIndex[cell] == NOT_EXPLORED) {
+                stepIndex[cell] = stepCount;
+            }
+            stepCount++;
+        }
+        if (stepCount > gradientSteps) {
+            // A bidirectional search can expand cells twice; spread the gradient wider
+            gradientSteps = 2 * stepCount;
+            cacheCellSize = -1;
+            repaint();
+        }
+    }
+
+    // The search is done: spread the gradient over its actual steps and show the path
+    public void finishSolution(SolveResult result) {
+        streaming = false;
+        this.solutionPath = result.getPath();
+        this.pathCost = result.getCost();
+        for (int cell : solutionPath) {
+            pathCells.set(cell);
+        }
+        gradientSteps = stepCount;
+        cacheCellSize = -1;
+        repaint();
+    }
+
+    // The search died without a result: stop animating and show it as failed
+    public void failSolution() {
+        streaming = false;
+        solving = false;
+        failed = true;
+        frameClock.stop();
+        repaint();
+    }
+
+    public void reset() {
+        solving = false;
+        frameClock.stop();
+        streaming = false;
+        failed = false;
+        stepCells = null;
+        stepCount = 0;
+        stepIndex = null;
+        solutionPath = new int[0];
+        pathCells.clear();
+        currentStep = 0;
+        totalCost = 0;
+        cellsExplored = 0;
+        currentAlgorithm = "";
+        cacheCellSize = -1;
+        repaint();
+    }
+
+    // One frame of the animation clock: shows every exploration step that has come
+    // due since the last frame, then moves the marker pulse on. With nothing left
+    // to animate the clock stops, and the markers come to rest.
+    private void onFrame() {
+        frameNanos = System.nanoTime();
+        if (solving) {
+            long delay = getDelayForSpeed(animationSpeed) * 1_000_000L;
+            int due = 0;
+            while (frameNanos >= nextStepNanos && currentStep + due < stepCount) {
+                due++;
+                nextStepNanos += delay;
+            }
+            if (currentStep + due == stepCount && nextStepNanos < frameNanos) {
+                // Caught up with a running search: the next step to arrive waits a full delay
+                nextStepNanos = frameNanos + delay;
+            }
+            if (due > 0) {
+                advanceSteps(due);
+            } else if (!streaming && currentStep >= stepCount) {
+                // Show the total cost once the animation completes
+                totalCost = pathCost;
+                solving = false;
+                repaintInfoPanel();
+            }
+        }
+        repaintMarkers();
+        if (!solving) {
+            frameClock.stop();
+        }
+    }
+
+    // Steps change the newly explored cells and, with full detail, the ripple of the
+    // few before them; only those cells and the info panel counters are redrawn
+    private void advanceSteps(int count) {
+        int previous = currentStep;
+        currentStep += count;
+        cellsExplored = currentStep;
+        int from = cellSize >= DETAIL_CELL_SIZE ? Math.max(0, previous - RIPPLE_STEPS) : previous;
+        for (int i = from; i < currentStep; i++) {
+            refreshCell(stepCells[i]);
+        }
+        repaintInfoPanel();
+    }
+
+    private void repaintMarkers() {
+        if (cellSize < MARKER_CELL_SIZE) {
+            return;
+        }
+        repaintMarker(0, 0);
+        for (Cell finish : maze.getFinishCells()) {
+            repaintMarker(finish.row, finish.col);
+        }
+    }
+
+    private void repaintMarker(int row, int col) {
+        int x = screenX(col) + cellSize/2;
+        int y = screenY(row) + cellSize/2;
+        if (viewport().contains(x, y)) {
+            repaint(x - MARKER_REACH, y - MARKER_REACH, 2 * MARKER_REACH, 2 * MARKER_REACH);
+        }
+    }
+
+    private void refreshCell(int cell) {
+        int row = cell / maze.getCols();
+        int col = cell % maze.getCols();
+        if (cacheCellSize == cellSize && layerVersion == maze.getVersion()
+                && row >= cacheRow && row < cacheRow + cacheRows && col >= cacheCol && col < cacheCol + cacheCols) {
+            renderCells(row, col, row, col);
+        }
+        // Walls are stroked on the cell border, so the dirty area reaches past the cell by half a wall
+        Rectangle dirty = new Rectangle(screenX(col) - WALL_THICKNESS, screenY(row) - WALL_THICKNESS,
+                cellSize + 2 * WALL_THICKNESS, cellSize + 2 * WALL_THICKNESS).intersection(viewport());
+        if (!dirty.isEmpty()) {
+            repaint(dirty);
+        }
+    }
+
+    private void repaintInfoPanel() {
+        repaint(0, 0, getWidth(), INFO_PANEL_HEIGHT);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+
+        // Draw info panel
+        if (clip.y < INFO_PANEL_HEIGHT) {
+            drawInfoPanel(g2d);
+        }
+
+        Rectangle view = viewport();
+        if (view.isEmpty() || !view.intersects(clip)) {
+            return;
+        }
+        clampView();
+        updateCache(view);
+        Shape previousClip = g2d.getClip();
+        g2d.clipRect(view.x, view.y, view.width, view.height);
+        if (cellSize < RASTER_CELL_SIZE) {
+            g2d.drawImage(rasterImage, screenX(cacheCol), screenY(cacheRow), null);
+        } else {
+            int x = screenX(cacheCol) - WALL_THICKNESS;
+            int y = screenY(cacheRow) - WALL_THICKNESS;
+            g2d.drawImage(terrainLayer, x, y, null);
+            g2d.drawImage(wallLayer, x, y, null);
+        }
+        g2d.setClip(previousClip);
+
+        if (cellSize < MARKER_CELL_SIZE) {
+            return;
+        }
+        // Draw start marker with glow effect
+        int startX = screenX(0) + cellSize/2;
+        int startY = screenY(0) + cellSize/2;
+        if (markerTouches(clip, view, startX, startY)) {
+            drawMarker(g2d, startX, startY, new Color(76, 175, 80), "START");
+        }
+
+        // NEW: Draw all three finish markers
+        for (Cell finish : maze.getFinishCells()) {
+            int endX = screenX(finish.col) + cellSize/2;
+            int endY = screenY(finish.row) + cellSize/2;
+            if (markerTouches(clip, view, endX, endY)) {
+                drawMarker(g2d, endX, endY, new Color(244, 67, 54), "GOAL");
+            }
+        }
+    }
+
+    // Markers outside the clip or the window are skipped
+    private static boolean markerTouches(Rectangle clip, Rectangle view, int x, int y) {
+        return view.contains(x, y)
+                && clip.intersects(x - MARKER_REACH, y - MARKER_REACH, 2 * MARKER_REACH, 2 * MARKER_REACH);
+    }
+
+    // Makes the layers cover the visible cells at the current zoom and maze version.
+    // A new window is rendered with half a window of margin on each side, so short
+    // pans are served from the layers as they are.
+    private void updateCache(Rectangle view) {
+        int firstRow = Math.max(0, Math.floorDiv(viewY, cellSize));
+        int firstCol = Math.max(0, Math.floorDiv(viewX, cellSize));
+        int lastRow = Math.min(maze.getRows() - 1, Math.floorDiv(viewY + view.height - 1, cellSize));
+        int lastCol = Math.min(maze.getCols() - 1, Math.floorDiv(viewX + view.width - 1, cellSize));
+
+        boolean covered = cacheCellSize == cellSize
+                && firstRow >= cacheRow && lastRow < cacheRow + cacheRows
+                && firstCol >= cacheCol && lastCol < cacheCol + cacheCols;
+        if (covered && layerVersion != maze.getVersion()) {
+            covered = applyMazeChanges();
+        }
+        if (covered) {
+            return;
+        }
+
+        int marginRows = (lastRow - firstRow + 2) / 2;
+        int marginCols = (lastCol - firstCol + 2) / 2;
+        cacheRow = Math.max(0, firstRow - marginRows);
+        cacheCol = Math.max(0, firstCol - marginCols);
+        cacheRows = Math.min(maze.getRows(), lastRow + marginRows + 1) - cacheRow;
+        cacheCols = Math.min(maze.getCols(), lastCol + marginCols + 1) - cacheCol;
+        cacheCellSize = cellSize;
+        layerVersion = maze.getVersion();
+
+        int width = cacheCols * cellSize;
+        int height = cacheRows * cellSize;
+        if (cellSize < RASTER_CELL_SIZE) {
+            terrainLayer = null;
+            wallLayer = null;
+            rasterImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            rasterPixels = ((DataBufferInt) rasterImage.getRaster().getDataBuffer()).getData();
+        } else {
+            rasterImage = null;
+            rasterPixels = null;
+            terrainLayer = createLayer(width + 2 * WALL_THICKNESS, height + 2 * WALL_THICKNESS, Transparency.OPAQUE);
+            wallLayer = createLayer(width + 2 * WALL_THICKNESS, height + 2 * WALL_THICKNESS, Transparency.TRANSLUCENT);
+        }
+        renderCells(cacheRow, cacheCol, cacheRow + cacheRows - 1, cacheCol + cacheCols - 1);
+    }
+
+    // Redraws the edited cells inside the layers; false when the change log does
+    // not reach back far enough or so much changed that a fresh render is cheaper
+    private boolean applyMazeChanges() {
+        int[] changed = maze.getChangedCellsSince(layerVersion);
+        if (changed == null || changed.length > cacheRows * cacheCols / 8) {
+            return false;
+        }
+        layerVersion = maze.getVersion();
+        for (int cell : changed) {
+            int row = cell / maze.getCols();
+            int col = cell % maze.getCols();
+            if (row >= cacheRow && row < cacheRow + cacheRows && col >= cacheCol && col < cacheCol + cacheCols) {
+                renderCells(row, col, row, col);
+            }
+        }
+        return true;
+    }
+
+    // Compatible images can be kept in video memory while they are not written to
+    private BufferedImage createLayer(int width, int height, int transparency) {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        if (config != null) {
+            return config.createCompatibleImage(width, height, transparency);
+        }
+        return new BufferedImage(width, height,
+                transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    // Redraws cached cells [firstRow, lastRow] x [firstCol, lastCol] in the layers.
+    // Vector neighbours are drawn again inside the area's clip for the wall overhang.
+    private void renderCells(int firstRow, int firstCol, int lastRow, int lastCol) {
+        if (cellSize < RASTER_CELL_SIZE) {
+            for (int i = firstRow; i <= lastRow; i++) {
+                for (int j = firstCol; j <= lastCol; j++) {
+                    writeRasterCell(maze.index(i, j));
+                }
+            }
+            return;
+        }
+
+        Rectangle region = new Rectangle((firstCol - cacheCol) * cellSize, (firstRow - cacheRow) * cellSize,
+                (lastCol - firstCol + 1) * cellSize + 2 * WALL_THICKNESS, (lastRow - firstRow + 1) * cellSize + 2 * WALL_THICKNESS);
+        boolean detail = cellSize >= DETAIL_CELL_SIZE;
+        Graphics2D terrain = layerGraphics(terrainLayer, region, detail);
+        terrain.setColor(BACKGROUND);
+        terrain.fill(region);
+        Graphics2D walls = layerGraphics(wallLayer, region, detail);
+        walls.setComposite(AlphaComposite.Clear);
+        walls.fill(region);
+        walls.setComposite(AlphaComposite.SrcOver);
+
+        double scale = cellSize / (double) CELL_SIZE;
+        FontMetrics costMetrics = terrain.getFontMetrics(COST_FONT);
+        AffineTransform base = terrain.getTransform();
+        int rowEnd = Math.min(cacheRow + cacheRows - 1, lastRow + 1);
+        int colEnd = Math.min(cacheCol + cacheCols - 1, lastCol + 1);
+        for (int i = Math.max(cacheRow, firstRow - 1); i <= rowEnd; i++) {
+            for (int j = Math.max(cacheCol, firstCol - 1); j <= colEnd; j++) {
+                int cell = maze.index(i, j);
+                int x = WALL_THICKNESS + (j - cacheCol) * cellSize;
+                int y = WALL_THICKNESS + (i - cacheRow) * cellSize;
+                terrain.translate(x, y);
+                terrain.scale(scale, scale);
+                drawCell(terrain, cell, detail, costMetrics);
+                terrain.setTransform(base);
+
+                walls.translate(x, y);
+                walls.scale(scale, scale);
+                drawWalls(walls, cell);
+                walls.setTransform(base);
+            }
+        }
+        terrain.dispose();
+        walls.dispose();
+    }
+
+    private static Graphics2D layerGraphics(BufferedImage layer, Rectangle clip, boolean detail) {
+        Graphics2D g2d = layer.createGraphics();
+        if (detail) {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        }
+        g2d.setClip(clip);
+        return g2d;
+    }
+
+    // Paints one cell's fill in CELL_SIZE units from its corner: path, explored or terrain
+    private void drawCell(Graphics2D g2d, int cell, boolean detail, FontMetrics costMetrics) {
+        boolean inPath = pathCells.get(cell);
+        Cell.TerrainType terrain = maze.getTerrain(cell);
+        int step = stepIndex == null ? NOT_EXPLORED : stepIndex[cell];
+        Shape shape = detail ? CELL_SHAPE : PLAIN_CELL_SHAPE;
+
+        // Fill cell based on state
+        if (inPath) {
+            // Vibrant gradient for solution path
+            g2d.setPaint(detail ? PATH_PAINT : PATH_COLOR);
+            g2d.fill(shape);
+
+            // Add sparkle effect
+            if (detail) {
+                g2d.setColor(SPARKLE_COLOR);
+                g2d.fillOval(8, 8, 6, 6);
+            }
+            return;
+        } else if (step < currentStep) {
+            // Exploration gradient over the whole run, so a cell keeps its color once painted
+            g2d.setColor(EXPLORED_COLORS[(int) (105L * step / gradientSteps)]);
+            g2d.fill(shape);
+
+            // Ripple effect for recent cells
+            int age = currentStep - step;
+            if (detail && age < RIPPLE_STEPS) {
+                g2d.setColor(RIPPLE_COLORS[age]);
+                g2d.setStroke(RIPPLE_STROKE);
+                g2d.draw(RIPPLE_SHAPE);
+            }
+        } else {
+            // Terrain color
+            g2d.setColor(terrain.color);
+            g2d.fill(shape);
+        }
+        if (!detail) {
+            return;
+        }
+
+        // Draw cost number in center for non-default terrain
+        if (terrain != Cell.TerrainType.DEFAULT) {
+            g2d.setColor(COST_TEXT_COLOR);
+            g2d.setFont(COST_FONT);
+            String costStr = COST_LABELS[terrain.ordinal()];
+            int textWidth = costMetrics.stringWidth(costStr);
+            g2d.drawString(costStr, (CELL_SIZE - textWidth) / 2, CELL_SIZE / 2 + 4);
+        }
+
+        // Draw subtle inner shadow for depth, with the wall stroke the full-grid paint
+        // has always left set from the previous cell
+        g2d.setColor(INNER_SHADOW_COLOR);
+        g2d.setStroke(WALL_STROKE);
+        g2d.drawRoundRect(2, 2, CELL_SIZE - 4, CELL_SIZE - 4, 10, 10);
+    }
+
+    // Draw walls with rounded caps
+    private void drawWalls(Graphics2D g2d, int cell) {
+        g2d.setColor(WALL_COLOR);
+        g2d.setStroke(WALL_STROKE);
+
+        if (maze.hasWall(cell, MazeGraph.TOP)) {
+            g2d.drawLine(0, 0, CELL_SIZE, 0);
+        }
+        if (maze.hasWall(cell, MazeGraph.RIGHT)) {
+            g2d.drawLine(CELL_SIZE, 0, CELL_SIZE, CELL_SIZE);
+        }
+        if (maze.hasWall(cell, MazeGraph.BOTTOM)) {
+            g2d.drawLine(0, CELL_SIZE, CELL_SIZE, CELL_SIZE);
+        }
+        if (maze.hasWall(cell, MazeGraph.LEFT)) {
+            g2d.drawLine(0, 0, 0, CELL_SIZE);
+        }
+    }
+
+    // One flat color per cell, with walls as the cell's own edge pixels once cells
+    // are big enough to spare them; a cell only ever writes inside its own square
+    private void writeRasterCell(int cell) {
+        int rgb;
+        if (pathCells.get(cell)) {
+            rgb = PATH_COLOR.getRGB();
+        } else if (stepIndex != null && stepIndex[cell] < currentStep) {
+            rgb = EXPLORED_RGB[(int) (105L * stepIndex[cell] / gradientSteps)];
+        } else {
+            rgb = maze.getTerrain(cell).color.getRGB();
+        }
+
+        int width = cacheCols * cellSize;
+        int x0 = (cell % maze.getCols() - cacheCol) * cellSize;
+        int y0 = (cell / maze.getCols() - cacheRow) * cellSize;
+        for (int y = 0; y < cellSize; y++) {
+            Arrays.fill(rasterPixels, (y0 + y) * width + x0, (y0 + y) * width + x0 + cellSize, rgb);
+        }
+        if (cellSize < 3) {
+            return;
+        }
+        int wall = WALL_COLOR.getRGB();
+        int last = cellSize - 1;
+        if (maze.hasWall(cell, MazeGraph.TOP)) {
+            Arrays.fill(rasterPixels, y0 * width + x0, y0 * width + x0 + cellSize, wall);
+        }
+        if (maze.hasWall(cell, MazeGraph.BOTTOM)) {
+            Arrays.fill(rasterPixels, (y0 + last) * width + x0, (y0 + last) * width + x0 + cellSize, wall);
+        }
+        for (int y = 0; y < cellSize; y++) {
+            if (maze.hasWall(cell, MazeGraph.LEFT)) {
+                rasterPixels[(y0 + y) * width + x0] = wall;
+            }
+            if (maze.hasWall(cell, MazeGraph.RIGHT)) {
+                rasterPixels[(y0 + y) * width + x0 + last] = wall;
+            }
+        }
+    }
+
+    private void drawInfoPanel(Graphics2D g2d) {
+        // Background gradient
+        GradientPaint bgGradient = new GradientPaint(
+                0, 0, new Color(67, 97, 238),
+                getWidth(), INFO_PANEL_HEIGHT, new Color(103, 58, 183)
+        );
+        g2d.setPaint(bgGradient);
+        g2d.fillRoundRect(10, 10, getWidth() - 20, INFO_PANEL_HEIGHT - 20, 15, 15);
+
+        // Draw stats
+        g2d.setColor(Color.WHITE);
+
+        // Algorithm name
+        if (!currentAlgorithm.isEmpty()) {
+            g2d.setFont(TITLE_FONT);
+            g2d.drawString("Algorithm: " + currentAlgorithm, 30, 40);
+        }
+
+        // Stats in columns
+        g2d.setFont(STATS_FONT);
+        int yPos = 65;
+
+        // Path Cost
+        String costText = "Path Cost: ";
+        if (totalCost > 0) {
+            g2d.setColor(new Color(255, 235, 59));
+            costText += totalCost;
+        } else {
+            g2d.setColor(new Color(200, 200, 200));
+            costText += "---";
+        }
+        g2d.drawString(costText, 30, yPos);
+
+        // Cells Explored
+        g2d.setColor(new Color(129, 212, 250));
+        String exploredText = "Cells Explored: " + cellsExplored;
+        g2d.drawString(exploredText, 220, yPos);
+
+        // Status indicator
+        if (stepCells != null) {
+            if (failed) {
+                g2d.setColor(new Color(244, 67, 54));
+                g2d.fillOval(getWidth() - 100, 25, 15, 15);
+                g2d.setColor(Color.WHITE);
+                g2d.setFont(STATUS_FONT);
+                g2d.drawString("Failed", getWidth() - 80, 37);
+            } else if (!streaming && currentStep >= stepCount) {
+                g2d.setColor(new Color(76, 175, 80));
+                g2d.fillOval(getWidth() - 100, 25, 15, 15);
+                g2d.setColor(Color.WHITE);
+                g2d.setFont(STATUS_FONT);
+                g2d.drawString("Complete", getWidth() - 80, 37);
+            } else {
+                g2d.setColor(new Color(255, 193, 7));
+                g2d.fillOval(getWidth() - 100, 25, 15, 15);
+                g2d.setColor(Color.WHITE);
+                g2d.setFont(STATUS_FONT);
+                g2d.drawString("Solving...", getWidth() - 80, 37);
+            }
+        }
+    }
+
+    private void drawMarker(Graphics2D g2d, int x, int y, Color color, String label) {
+        // Animated pulse effect while solving, driven by the frame clock; at rest otherwise
+        float pulse = solving ? (float)(Math.sin(frameNanos / 300_000_000.0) * 0.2 + 1.0) : 1.0f;
+
+        // Outer glow with pulse
+        for (int i = 4; i > 0; i--) {
+            int alpha = (int)(25 * i * pulse);
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha));
+            int size = 30 + i * 4;
+            g2d.fillOval(x - size/2, y - size/2, size, size);
+        }
+
+        // Main circle with gradient
+        int mainSize = (int)(28 * pulse);
+        GradientPaint gradient = new GradientPaint(
+                x - mainSize/2, y - mainSize/2, color.brighter(),
+                x + mainSize/2, y + mainSize/2, color
+        );
+        g2d.setPaint(gradient);
+        g2d.fillOval(x - mainSize/2, y - mainSize/2, mainSize, mainSize);
+
+        // Border
+        g2d.setColor(Color.WHITE);
+        g2d.setStroke(MARKER_STROKE);
+        g2d.drawOval(x - mainSize/2, y - mainSize/2, mainSize, mainSize);
+
+        // Label with shadow
+        g2d.setFont(MARKER_FONT);
+        FontMetrics fm = g2d.getFontMetrics();
+        int labelWidth = fm.stringWidth(label);
+
+        // Shadow
+        g2d.setColor(new Color(0, 0, 0, 100));
+        g2d.drawString(label, x - labelWidth/2 + 1, y + 4);
+
+        // Text
+        g2d.setColor(Color.WHITE);
+        g2d.drawString(label, x - labelWidth/2, y + 3);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package maze;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// Splits the grid into square tiles, carves each tile independently with Prim's
+// algorithm in parallel, then joins the tiles along a random spanning tree of the
+// tile grid by opening one wall on each chosen shared border. A spanning tree of
+// perfect tiles joined by single passages is itself a perfect maze.
+class ParallelTileGenerator implements MazeGenerator {
+    static final int DEFAULT_TILE_SIZE = 512;
+
+    private final int tileSize;
+
+    public ParallelTileGenerator() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    public ParallelTileGenerator(int tileSize) {
+        if (tileSize < 1 || (long) tileSize * tileSize > PrimGenerator.MAX_REGION_CELLS) {
+            throw new IllegalArgumentException("Invalid tile size: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    @Override
+    public void carve(MazeGraph maze, long seed) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int tileRows = (rows + tileSize - 1) / tileSize;
+        int tileCols = (cols + tileSize - 1) / tileSize;
+
+        // Tiles only touch walls inside themselves, so they never race on a cell
+        IntStream.range(0, tileRows * tileCols).parallel().forEach(tile -> {
+            int top = (tile / tileCols) * tileSize;
+            int left = (tile % tileCols) * tileSize;
+            int height = Math.min(tileSize, rows - top);
+            int width = Math.min(tileSize, cols - left);
+            PrimGenerator.carveRegion(maze, top, left, height, width, new Random(tileSeed(seed, tile)));
+        });
+
+        stitchTiles(maze, tileRows, tileCols, new Random(seed));
+    }
+
+    // Kruskal over the tile grid: border = tile * 2 + (0 for the right border, 1 for the bottom one)
+    private void stitchTiles(MazeGraph maze, int tileRows, int tileCols, Random random) {
+        int tileCount = tileRows * tileCols;
+        int[] borders = new int[tileCount * 2];
+        int count = 0;
+        for (int tile = 0; tile < tileCount; tile++) {
+            if (tile % tileCols < tileCols - 1) borders[count++] = tile * 2;
+            if (tile / tileCols < tileRows - 1) borders[count++] = tile * 2 + 1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = borders[i];
+            borders[i] = borders[j];
+            borders[j] = tmp;
+        }
+
+        UnionFind tiles = new UnionFind(tileCount);
+        for (int i = 0; i < count; i++) {
+            int tile = borders[i] >>> 1;
+            boolean down = (borders[i] & 1) != 0;
+            if (!tiles.union(tile, down ? tile + tileCols : tile + 1)) {
+                continue;
+            }
+            int top = (tile / tileCols) * tileSize;
+            int left = (tile % tileCols) * tileSize;
+            if (down) {
+                // Open a random cell of the tile's bottom row downwards
+                int width = Math.min(tileSize, maze.getCols() - left);
+                maze.carvePassage(maze.index(top + tileSize - 1, left + random.nextInt(width)), 2);
+            } else {
+                // Open a random cell of the tile's right column to the right
+                int height = Math.min(tileSize, maze.getRows() - top);
+                maze.carvePassage(maze.index(top + random.nextInt(height), left + tileSize - 1), 1);
+            }
+        }
+    }
+
+    private static long tileSeed(long seed, int tile) {
+        // SplitMix64 finalizer so neighbouring tiles get unrelated streams
+        long z = seed + (tile + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,139 @@
+package maze;
+
+import java.util.*;
+
+// Bounded least-recently-used cache of solved queries for one maze, keyed by
+// (maze version, start, goal set, algorithm). Any edit or regeneration bumps the
+// maze version; the first access afterwards drops every entry, so a stale path
+// can never come back. Misses are cached too, as unsolvable queries.
+//
+// Bounded both by entry count and by the total number of path cells, so a few
+// very long paths cannot pin a large share of the heap. Thread-safe; lookups are
+// short critical sections, solving happens outside the lock.
+class PathCache {
+    private final MazeGraph maze;
+    private final int maxEntries;
+    private final long maxCells;
+    private final LinkedHashMap<Key, int[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int version;
+    private long cells;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public PathCache(MazeGraph maze, int maxEntries) {
+        this(maze, maxEntries, Long.MAX_VALUE);
+    }
+
+    public PathCache(MazeGraph maze, int maxEntries, long maxCells) {
+        if (maxEntries < 1 || maxCells < 1) {
+            throw new IllegalArgumentException("Cache bounds must be positive");
+        }
+        this.maze = maze;
+        this.maxEntries = maxEntries;
+        this.maxCells = maxCells;
+        this.version = maze.getVersion();
+    }
+
+    // Cached path for the query (empty if it is known to have none), or null on a miss
+    public synchronized int[] get(String algorithm, int start, int[] goals) {
+        invalidateIfChanged();
+        int[] path = entries.get(new Key(version, start, goals, algorithm));
+        if (path == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return path;
+    }
+
+    // Stores a result computed at mazeVersion; dropped if the maze has moved on since
+    public synchronized void put(String algorithm, int start, int[] goals, int mazeVersion, int[] path) {
+        invalidateIfChanged();
+        if (mazeVersion != version) {
+            return;
+        }
+        int[] previous = entries.put(new Key(version, start, goals, algorithm), path);
+        if (previous != null) {
+            cells -= previous.length;
+        }
+        cells += path.length;
+
+        Iterator<int[]> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || cells > maxCells) && eldest.hasNext()) {
+            cells -= eldest.next().length;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        invalidations += entries.size();
+        entries.clear();
+        cells = 0;
+    }
+
+    private void invalidateIfChanged() {
+        if (maze.getVersion() != version) {
+            clear();
+            version = maze.getVersion();
+        }
+    }
+
+    public MazeGraph getMaze() {
+        return maze;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+    public synchronized long getInvalidations() { return invalidations; }
+
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d entries (%d cells), %d hits, %d misses (%.1f%% hit rate), %d evicted, %d invalidated",
+                entries.size(), cells, hits, misses, getHitRate() * 100, evictions, invalidations);
+    }
+
+    // Goals are compared as a set: order and duplicates do not change the answer
+    private static final class Key {
+        final int version;
+        final int start;
+        final int[] goals;
+        final String algorithm;
+        final int hash;
+
+        Key(int version, int start, int[] goals, String algorithm) {
+            this.version = version;
+            this.start = start;
+            this.goals = Arrays.stream(goals).sorted().distinct().toArray();
+            this.algorithm = algorithm;
+            this.hash = Objects.hash(version, start, Arrays.hashCode(this.goals), algorithm);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return version == other.version && start == other.start
+                    && algorithm.equals(other.algorithm) && Arrays.equals(goals, other.goals);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
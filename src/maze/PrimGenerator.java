@@ -0,0 +1,95 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+// Randomized Prim's algorithm. Each frontier wall is one packed int,
+// (cell << 2) | side, pointing from a visited cell to an unvisited neighbor,
+// where side 0..3 is top, right, bottom, left. A pick is swapped with the last
+// entry and removed in O(1), and walls into already visited cells are only
+// dropped when picked, so generation is linear overall. An unvisited cell
+// bordering k visited cells still has k walls in the frontier, so mazes follow
+// the same distribution as the classic wall list.
+class PrimGenerator implements MazeGenerator {
+    static final int MAX_REGION_CELLS = 1 << 29; // cell index must fit in 30 bits of a packed wall
+
+    @Override
+    public void carve(MazeGraph maze, long seed) {
+        carveRegion(maze, 0, 0, maze.getRows(), maze.getCols(), new Random(seed));
+    }
+
+    // Carves a perfect maze inside one rectangle, growing from its top-left cell.
+    // Only walls between cells of the rectangle are touched, so disjoint regions
+    // can be carved in parallel.
+    static void carveRegion(MazeGraph maze, int top, int left, int height, int width, Random random) {
+        int cellCount = height * width;
+        if ((long) height * width > MAX_REGION_CELLS) {
+            throw new IllegalArgumentException("Prim's generator supports at most " + MAX_REGION_CELLS + " cells");
+        }
+
+        // Region-local cell indices; only translated when a wall is carved
+        BitSet visited = new BitSet(cellCount);
+        PackedWalls frontier = new PackedWalls();
+
+        // Start from top-left corner
+        visited.set(0);
+        addFrontierWalls(0, height, width, visited, frontier);
+
+        while (frontier.size > 0) {
+            // Pick random wall
+            int wall = frontier.removeAt(random.nextInt(frontier.size));
+            int cell = wall >>> 2;
+            int side = wall & 3;
+            int target = cell + localOffset(side, width);
+
+            // Only carve into cells the maze has not reached yet
+            if (!visited.get(target)) {
+                int row = cell / width;
+                int col = cell - row * width;
+                maze.carvePassage(maze.index(top + row, left + col), side);
+                visited.set(target);
+                addFrontierWalls(target, height, width, visited, frontier);
+            }
+        }
+    }
+
+    private static void addFrontierWalls(int cell, int height, int width, BitSet visited, PackedWalls walls) {
+        int r = cell / width;
+        int c = cell - r * width;
+        int packed = cell << 2;
+
+        if (r > 0 && !visited.get(cell - width)) walls.add(packed);
+        if (c < width-1 && !visited.get(cell + 1)) walls.add(packed | 1);
+        if (r < height-1 && !visited.get(cell + width)) walls.add(packed | 2);
+        if (c > 0 && !visited.get(cell - 1)) walls.add(packed | 3);
+    }
+
+    private static int localOffset(int side, int width) {
+        switch (side) {
+            case 0: return -width;
+            case 1: return 1;
+            case 2: return width;
+            default: return -1;
+        }
+    }
+
+    // Growable int list with O(1) unordered removal
+    private static class PackedWalls {
+        int[] items = new int[64];
+        int size;
+
+        void add(int wall) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size + (size >> 1));
+            }
+            items[size++] = wall;
+        }
+
+        int removeAt(int i) {
+            int wall = items[i];
+            items[i] = items[--size];
+            return wall;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package maze;
+
+// Min-priority frontier of cell indices for Dijkstra and A*, backed by whichever
+// heap the FrontierType selects
+class PriorityFrontier {
+    private final IntHeap lazy;
+    private final IndexedMinHeap indexed;
+
+    public PriorityFrontier(FrontierType type, int cellCount) {
+        switch (type) {
+            case INDEXED_BINARY:
+                this.indexed = IndexedMinHeap.binary(cellCount);
+                this.lazy = null;
+                break;
+            case INDEXED_QUATERNARY:
+                this.indexed = IndexedMinHeap.quaternary(cellCount);
+                this.lazy = null;
+                break;
+            default:
+                this.indexed = null;
+                this.lazy = new IntHeap(cellCount);
+        }
+    }
+
+    public void clear() {
+        if (indexed != null) {
+            indexed.clear();
+        } else {
+            lazy.clear();
+        }
+    }
+
+    public boolean isEmpty() {
+        return indexed != null ? indexed.isEmpty() : lazy.isEmpty();
+    }
+
+    public int size() {
+        return indexed != null ? indexed.size() : lazy.size();
+    }
+
+    // Smallest key; with the lazy heap this may belong to a stale entry
+    public int peekKey() {
+        return indexed != null ? (int) indexed.peekKey() : lazy.peekKey();
+    }
+
+    // The indexed heap never returns a cell twice; the lazy heap may, and callers
+    // skip those stale entries with their visited check
+    public int poll() {
+        if (indexed != null) {
+            return indexed.poll();
+        }
+        lazy.poll();
+        return lazy.polledValue();
+    }
+
+    public void offer(int key, int cell) {
+        if (indexed != null) {
+            indexed.insertOrDecrease(cell, key);
+        } else {
+            lazy.offer(key, cell);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package maze;
+
+import java.util.Arrays;
+
+// Per-query search state: visited marks, parents, distances, exploration order and
+// reusable frontiers. Solvers keep no mutable state of their own and never write to
+// the maze, so one MazeGraph can serve many solves at once as long as each thread
+// uses its own context.
+//
+// Visited and reached marks are generation stamps: begin() bumps the generation,
+// which invalidates every mark from the previous query without touching the arrays.
+class SearchContext {
+    private final int capacity;
+    private final int[] visitedStamp;
+    private final int[] reachedStamp;
+    private final int[] goalStamp;
+    private final int[] parent;
+    private final int[] distance;
+    private int[] steps;
+    private int stepCount;
+    private int generation;
+    private int goal = -1;
+    final int[] neighbors = new int[4];
+    private final int[] singleGoal = new int[1];
+
+    // Frontiers are created on first use and kept for the next query
+    private IntQueue queue;
+    private IntStack stack;
+    private PriorityFrontier priorityFrontier;
+    private FrontierType priorityFrontierType;
+    private BucketQueue bucketQueue;
+    private int bucketQueueStep = -1;
+    private SearchContext companion;
+
+    // Search counters, maintained only when SolverMetrics.ENABLED. A companion
+    // counts into the context that owns it, so a bidirectional query reports both halves.
+    private static final int NO_FRONTIER = 0, QUEUE = 1, STACK = 2, PRIORITY = 3, BUCKETS = 4;
+    private int frontierInUse;
+    private int relaxations;
+    private int stalePops;
+    private int frontierPeak;
+    private SearchContext counters = this;
+
+    // Optional observer of the exploration order while a query is still running
+    private StepListener stepListener;
+    private int stepBatch;
+    private int stepsPublished;
+    private int publishAt = Integer.MAX_VALUE;
+
+    public SearchContext(int capacity) {
+        this.capacity = capacity;
+        this.visitedStamp = new int[capacity];
+        this.reachedStamp = new int[capacity];
+        this.goalStamp = new int[capacity];
+        this.parent = new int[capacity];
+        this.distance = new int[capacity];
+        this.steps = new int[capacity];
+    }
+
+    public static SearchContext forMaze(MazeGraph maze) {
+        return new SearchContext(maze.getCellCount());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Starts a new query towards the given goal cells in O(goals.length); the
+    // arrays are only wiped when the stamp wraps around
+    public void begin(int[] goals) {
+        if (generation == Integer.MAX_VALUE) {
+            Arrays.fill(visitedStamp, 0);
+            Arrays.fill(reachedStamp, 0);
+            Arrays.fill(goalStamp, 0);
+            generation = 0;
+        }
+        generation++;
+        stepCount = 0;
+        goal = -1;
+        stepsPublished = 0;
+        publishAt = stepListener == null ? Integer.MAX_VALUE : stepBatch;
+        if (SolverMetrics.ENABLED) {
+            frontierInUse = NO_FRONTIER;
+            relaxations = 0;
+            stalePops = 0;
+            frontierPeak = 0;
+            if (companion != null) {
+                // Left over from an earlier query until this one sets it up again
+                companion.frontierInUse = NO_FRONTIER;
+            }
+        }
+        for (int cell : goals) {
+            goalStamp[cell] = generation;
+        }
+    }
+
+    // begin() towards one goal cell without allocating a goal array per query
+    public void begin(int goal) {
+        singleGoal[0] = goal;
+        begin(singleGoal);
+    }
+
+    public boolean isGoal(int cell) {
+        return goalStamp[cell] == generation;
+    }
+
+    public boolean isVisited(int cell) {
+        return visitedStamp[cell] == generation;
+    }
+
+    public void markVisited(int cell) {
+        visitedStamp[cell] = generation;
+    }
+
+    public boolean isReached(int cell) {
+        return reachedStamp[cell] == generation;
+    }
+
+    // Records the best known way to reach a cell; parent is -1 for a start cell
+    public void reach(int cell, int parentCell, int dist) {
+        retrace(cell, parentCell, dist);
+        if (SolverMetrics.ENABLED) {
+            counters.relaxations++;
+        }
+    }
+
+    // Same as reach, for writing down a path that is already known (joining halves,
+    // unrolling corridors, replaying a cached path); not counted as a relaxation
+    public void retrace(int cell, int parentCell, int dist) {
+        reachedStamp[cell] = generation;
+        parent[cell] = parentCell;
+        distance[cell] = dist;
+    }
+
+    public int getDistance(int cell) {
+        return reachedStamp[cell] == generation ? distance[cell] : Integer.MAX_VALUE;
+    }
+
+    public int getParent(int cell) {
+        return reachedStamp[cell] == generation ? parent[cell] : -1;
+    }
+
+    // Bidirectional searches may expand a cell from both sides, so the step
+    // array can outgrow the cell count
+    public void addStep(int cell) {
+        if (stepCount == steps.length) {
+            steps = Arrays.copyOf(steps, Math.max(16, steps.length * 2));
+        }
+        steps[stepCount++] = cell;
+        if (SolverMetrics.ENABLED) {
+            sampleFrontier();
+        }
+        if (stepCount == publishAt) {
+            publishSteps();
+        }
+    }
+
+    // Hands every batchSize new steps to the listener from inside the search; the
+    // listener may throw to abandon the query. Takes effect from the next begin().
+    public void setStepListener(StepListener listener, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.stepListener = listener;
+        this.stepBatch = batchSize;
+    }
+
+    // Passes on the steps added since the last batch; the search calls this every
+    // full batch, the caller once more after solve() for the remainder
+    public void publishSteps() {
+        if (stepListener != null && stepCount > stepsPublished) {
+            int from = stepsPublished;
+            stepsPublished = stepCount;
+            publishAt = stepCount + stepBatch;
+            stepListener.stepsAdded(this, from, stepCount);
+        }
+    }
+
+    // Called by solvers when a popped frontier entry turns out to be outdated
+    public void countStalePop() {
+        if (SolverMetrics.ENABLED) {
+            counters.stalePops++;
+        }
+    }
+
+    // For solvers that relax edges outside the context and only retrace the result here
+    public void countRelaxations(int count) {
+        if (SolverMetrics.ENABLED) {
+            counters.relaxations += count;
+        }
+    }
+
+    // The frontier is sampled once per expansion, which is enough for its peak; a
+    // bidirectional search's frontier is both halves together
+    private void sampleFrontier() {
+        int size = frontierSize();
+        if (companion != null) {
+            size += companion.frontierSize();
+        }
+        if (size > frontierPeak) {
+            frontierPeak = size;
+        }
+    }
+
+    private int frontierSize() {
+        switch (frontierInUse) {
+            case QUEUE: return queue.size();
+            case STACK: return stack.size();
+            case PRIORITY: return priorityFrontier.size();
+            case BUCKETS: return bucketQueue.size();
+            default: return 0;
+        }
+    }
+
+    public int getRelaxations() {
+        return relaxations;
+    }
+
+    public int getStalePops() {
+        return stalePops;
+    }
+
+    public int getFrontierPeak() {
+        return frontierPeak;
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    public int getStep(int i) {
+        return steps[i];
+    }
+
+    public void setGoal(int cell) {
+        goal = cell;
+    }
+
+    // Finish cell the last query ended on, or -1 if it found none
+    public int getGoal() {
+        return goal;
+    }
+
+    // Path from the start to the goal found by the last query, empty if none
+    public int[] getPath() {
+        if (goal < 0) {
+            return new int[0];
+        }
+        int length = 0;
+        for (int cell = goal; cell != -1; cell = parent[cell]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int cell = goal, i = length - 1; cell != -1; cell = parent[cell], i--) {
+            path[i] = cell;
+        }
+        return path;
+    }
+
+    // Second context of the same size for the backward half of a bidirectional
+    // search; it has its own generation and is started separately
+    SearchContext companion() {
+        if (companion == null) {
+            companion = new SearchContext(capacity);
+            companion.counters = this;
+        }
+        return companion;
+    }
+
+    IntQueue queue() {
+        if (queue == null) {
+            queue = new IntQueue(capacity);
+        }
+        queue.clear();
+        frontierInUse = QUEUE;
+        return queue;
+    }
+
+    IntStack stack() {
+        if (stack == null) {
+            stack = new IntStack(capacity);
+        }
+        stack.clear();
+        frontierInUse = STACK;
+        return stack;
+    }
+
+    PriorityFrontier priorityFrontier(FrontierType type) {
+        if (priorityFrontier == null || priorityFrontierType != type) {
+            priorityFrontier = new PriorityFrontier(type, capacity);
+            priorityFrontierType = type;
+        }
+        priorityFrontier.clear();
+        frontierInUse = PRIORITY;
+        return priorityFrontier;
+    }
+
+    BucketQueue bucketQueue(int maxStep) {
+        if (bucketQueue == null || bucketQueueStep != maxStep) {
+            bucketQueue = new BucketQueue(capacity, maxStep);
+            bucketQueueStep = maxStep;
+        }
+        bucketQueue.clear();
+        frontierInUse = BUCKETS;
+        return bucketQueue;
+    }
+
+    interface StepListener {
+        // Steps from (inclusive) to (exclusive) have been added; read them with getStep
+        void stepsAdded(SearchContext context, int from, int to);
+    }
+}
@@ -0,0 +1,42 @@
+package maze;
+
+// Outcome of one query: the path as cell indices (start first, empty if none was
+// found), its terrain cost, how many cells the search explored and how long it took
+class SolveResult {
+    final MazeQuery query;
+    final boolean found;
+    final int[] path;
+    final int cost;
+    final int explored;
+    final long elapsedNanos;
+
+    SolveResult(MazeQuery query, boolean found, int[] path, int cost, int explored, long elapsedNanos) {
+        this.query = query;
+        this.found = found;
+        this.path = path;
+        this.cost = cost;
+        this.explored = explored;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public MazeQuery getQuery() { return query; }
+    public boolean isFound() { return found; }
+    public int[] getPath() { return path; }
+    public int getCost() { return cost; }
+    public int getExploredCount() { return explored; }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // Number of moves along the path
+    public int getLength() {
+        return Math.max(0, path.length - 1);
+    }
+
+    @Override
+    public String toString() {
+        if (!found) {
+            return String.format("no path, %d cells explored in %.3f ms", explored, elapsedNanos / 1e6);
+        }
+        return String.format("%d moves, cost %d, %d cells explored in %.3f ms",
+                getLength(), cost, explored, elapsedNanos / 1e6);
+    }
+}
@@ -0,0 +1,122 @@
+package maze;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+// Runs one default query (top-left corner to the finish points) on a virtual thread
+// and streams its exploration to the visualizer while the search is still going.
+// Steps travel to the EDT in fixed-size batches taken from a small pool; a search
+// that outruns the EDT waits for a batch to come back instead of queueing without
+// bound. cancel() stops the search at its next batch.
+//
+// The maze must not change while a task runs: cancel it and make the change from
+// whenStopped. A search still building a derived index (goal field, corridor or
+// cluster graph) only notices the cancel once the build is done, so the EDT never
+// waits for it.
+class SolveTask {
+    static final int BATCH_SIZE = 2048;
+    private static final int BATCHES_IN_FLIGHT = 4;
+
+    private final MazeSolver solver;
+    private final MazeVisualizer visualizer;
+    private final BlockingQueue<int[]> freeBatches = new ArrayBlockingQueue<>(BATCHES_IN_FLIGHT);
+    private volatile boolean cancelled;
+    private Thread thread;
+    // EDT only: set once the search thread has let go of the maze
+    private boolean stopped;
+    private final List<Runnable> stopActions = new ArrayList<>();
+
+    private SolveTask(MazeSolver solver, MazeVisualizer visualizer) {
+        this.solver = solver;
+        this.visualizer = visualizer;
+        for (int i = 0; i < BATCHES_IN_FLIGHT; i++) {
+            freeBatches.add(new int[BATCH_SIZE]);
+        }
+    }
+
+    // Call on the EDT: clears the visualizer for the new run and starts the search
+    public static SolveTask start(MazeSolver solver, MazeVisualizer visualizer, String algorithm) {
+        SolveTask task = new SolveTask(solver, visualizer);
+        visualizer.beginSolution(algorithm);
+        task.thread = Thread.ofVirtual().name("solve-" + algorithm).start(task::run);
+        return task;
+    }
+
+    private void run() {
+        MazeGraph maze = solver.maze;
+        SearchContext ctx = SearchContext.forMaze(maze);
+        ctx.setStepListener(this::sendSteps, BATCH_SIZE);
+        try {
+            SolveResult result = solver.solve(ctx, MazeQuery.toFinishPoints(maze, maze.index(0, 0)));
+            ctx.publishSteps();
+            SwingUtilities.invokeLater(() -> {
+                if (!cancelled) {
+                    visualizer.finishSolution(result);
+                }
+            });
+        } catch (CancellationException e) {
+            // Abandoned by cancel(); the visualizer has already been told
+        } catch (RuntimeException | Error e) {
+            if (!cancelled) {
+                e.printStackTrace();
+            }
+            SwingUtilities.invokeLater(() -> {
+                if (!cancelled) {
+                    visualizer.failSolution();
+                }
+            });
+        } finally {
+            SwingUtilities.invokeLater(this::onStopped);
+        }
+    }
+
+    private void onStopped() {
+        stopped = true;
+        for (Runnable action : stopActions) {
+            action.run();
+        }
+        stopActions.clear();
+    }
+
+    // Runs on the search thread, inside addStep
+    private void sendSteps(SearchContext ctx, int from, int to) {
+        int[] batch;
+        try {
+            batch = freeBatches.take();
+        } catch (InterruptedException e) {
+            throw new CancellationException("Solve cancelled");
+        }
+        if (cancelled) {
+            throw new CancellationException("Solve cancelled");
+        }
+        int count = to - from;
+        for (int i = 0; i < count; i++) {
+            batch[i] = ctx.getStep(from + i);
+        }
+        SwingUtilities.invokeLater(() -> {
+            if (!cancelled) {
+                visualizer.appendSteps(batch, count);
+            }
+            freeBatches.offer(batch);
+        });
+    }
+
+    // Call on the EDT. Returns at once; steps, results and failures still on their
+    // way to the EDT are dropped from now on.
+    public void cancel() {
+        cancelled = true;
+        thread.interrupt();
+    }
+
+    // Call on the EDT. Runs the action on the EDT once the search thread has stopped
+    // touching the maze, straight away if it already has.
+    public void whenStopped(Runnable action) {
+        if (stopped) {
+            action.run();
+        } else {
+            stopActions.add(action);
+        }
+    }
+}
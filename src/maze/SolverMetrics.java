@@ -0,0 +1,237 @@
+package maze;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-algorithm solver counters and latency histograms, exported as JSON or in
+// the Prometheus text format.
+//
+// Everything is switched on by -Dmaze.metrics=true. ENABLED is a static final
+// constant, so with the property unset the JIT folds every "if (ENABLED)" guard
+// away: the counters in SearchContext's inner loops and the recording here cost
+// nothing. With it set, a solver records into the registry given to
+// MazeSolver.setMetrics; solvers without one still skip the recording.
+class SolverMetrics {
+    static final boolean ENABLED = Boolean.getBoolean("maze.metrics");
+
+    // Histogram upper bounds in seconds, Prometheus "le" style; the last bucket is +Inf
+    static final double[] LATENCY_BUCKETS = {
+            1e-5, 5e-5, 1e-4, 5e-4, 1e-3, 5e-3, 0.01, 0.05, 0.1, 0.5, 1, 5
+    };
+
+    private final Map<String, Algorithm> algorithms = new ConcurrentHashMap<>();
+
+    public Algorithm algorithm(String name) {
+        return algorithms.computeIfAbsent(name, Algorithm::new);
+    }
+
+    public Collection<Algorithm> getAlgorithms() {
+        List<Algorithm> sorted = new ArrayList<>(algorithms.values());
+        sorted.sort(Comparator.comparing(Algorithm::getName));
+        return sorted;
+    }
+
+    public void reset() {
+        algorithms.clear();
+    }
+
+    // Counters of one algorithm; safe to update from many solving threads
+    static class Algorithm {
+        private final String name;
+        final LongAdder queries = new LongAdder();
+        final LongAdder solved = new LongAdder();
+        final LongAdder expanded = new LongAdder();
+        final LongAdder relaxations = new LongAdder();
+        final LongAdder stalePops = new LongAdder();
+        final LongAccumulator frontierPeak = new LongAccumulator(Math::max, 0);
+        final Histogram searchLatency = new Histogram();
+        final Histogram pathLatency = new Histogram();
+
+        Algorithm(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        void record(SearchContext ctx, boolean found, long searchNanos, long pathNanos) {
+            queries.increment();
+            if (found) {
+                solved.increment();
+            }
+            expanded.add(ctx.getStepCount());
+            relaxations.add(ctx.getRelaxations());
+            stalePops.add(ctx.getStalePops());
+            frontierPeak.accumulate(ctx.getFrontierPeak());
+            searchLatency.record(searchNanos);
+            pathLatency.record(pathNanos);
+        }
+    }
+
+    // Cumulative-on-export latency histogram over LATENCY_BUCKETS
+    static class Histogram {
+        private final AtomicLongArray counts = new AtomicLongArray(LATENCY_BUCKETS.length + 1);
+        private final LongAdder sumNanos = new LongAdder();
+
+        void record(long nanos) {
+            double seconds = nanos / 1e9;
+            int bucket = 0;
+            while (bucket < LATENCY_BUCKETS.length && seconds > LATENCY_BUCKETS[bucket]) {
+                bucket++;
+            }
+            counts.incrementAndGet(bucket);
+            sumNanos.add(nanos);
+        }
+
+        public long getCount() {
+            long total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            return total;
+        }
+
+        public double getSumSeconds() {
+            return sumNanos.sum() / 1e9;
+        }
+
+        // Observations at or below each bound, the last entry being the total
+        long[] cumulativeCounts() {
+            long[] cumulative = new long[counts.length()];
+            long running = 0;
+            for (int i = 0; i < cumulative.length; i++) {
+                running += counts.get(i);
+                cumulative[i] = running;
+            }
+            return cumulative;
+        }
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"algorithms\": [");
+        String separator = "\n";
+        for (Algorithm a : getAlgorithms()) {
+            json.append(separator).append("    {\"name\": \"").append(escapeJson(a.name)).append('"')
+                    .append(", \"queries\": ").append(a.queries.sum())
+                    .append(", \"solved\": ").append(a.solved.sum())
+                    .append(", \"expanded\": ").append(a.expanded.sum())
+                    .append(", \"relaxations\": ").append(a.relaxations.sum())
+                    .append(", \"stalePops\": ").append(a.stalePops.sum())
+                    .append(", \"frontierPeak\": ").append(a.frontierPeak.get())
+                    .append(", \"searchLatency\": ");
+            appendJson(json, a.searchLatency);
+            json.append(", \"pathLatency\": ");
+            appendJson(json, a.pathLatency);
+            json.append('}');
+            separator = ",\n";
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    private static void appendJson(StringBuilder json, Histogram histogram) {
+        long[] cumulative = histogram.cumulativeCounts();
+        json.append("{\"count\": ").append(cumulative[cumulative.length - 1])
+                .append(", \"sumSeconds\": ").append(histogram.getSumSeconds())
+                .append(", \"buckets\": {");
+        for (int i = 0; i < cumulative.length; i++) {
+            json.append(i == 0 ? "" : ", ").append('"').append(bucketLabel(i)).append("\": ").append(cumulative[i]);
+        }
+        json.append("}}");
+    }
+
+    public String toPrometheus() {
+        StringBuilder text = new StringBuilder();
+        Collection<Algorithm> all = getAlgorithms();
+        appendCounter(text, all, "maze_solver_queries_total", "Queries run", a -> a.queries.sum());
+        appendCounter(text, all, "maze_solver_solved_total", "Queries that found a path", a -> a.solved.sum());
+        appendCounter(text, all, "maze_solver_expanded_total", "Cells expanded", a -> a.expanded.sum());
+        appendCounter(text, all, "maze_solver_relaxations_total", "Distance improvements recorded", a -> a.relaxations.sum());
+        appendCounter(text, all, "maze_solver_stale_pops_total", "Outdated frontier entries skipped", a -> a.stalePops.sum());
+
+        text.append("# HELP maze_solver_frontier_peak Largest frontier seen in any query\n");
+        text.append("# TYPE maze_solver_frontier_peak gauge\n");
+        for (Algorithm a : all) {
+            text.append("maze_solver_frontier_peak{algorithm=\"").append(escapeLabel(a.name)).append("\"} ")
+                    .append(a.frontierPeak.get()).append('\n');
+        }
+
+        appendHistogram(text, all, "maze_solver_search_seconds", "Time spent searching", a -> a.searchLatency);
+        appendHistogram(text, all, "maze_solver_path_seconds", "Time spent building the result path", a -> a.pathLatency);
+        return text.toString();
+    }
+
+    private interface CounterValue {
+        long of(Algorithm a);
+    }
+
+    private interface HistogramOf {
+        Histogram of(Algorithm a);
+    }
+
+    private static void appendCounter(StringBuilder text, Collection<Algorithm> all, String metric, String help, CounterValue value) {
+        text.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(metric).append(" counter\n");
+        for (Algorithm a : all) {
+            text.append(metric).append("{algorithm=\"").append(escapeLabel(a.name)).append("\"} ")
+                    .append(value.of(a)).append('\n');
+        }
+    }
+
+    private static void appendHistogram(StringBuilder text, Collection<Algorithm> all, String metric, String help, HistogramOf histogramOf) {
+        text.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(metric).append(" histogram\n");
+        for (Algorithm a : all) {
+            String label = escapeLabel(a.name);
+            Histogram histogram = histogramOf.of(a);
+            long[] cumulative = histogram.cumulativeCounts();
+            for (int i = 0; i < cumulative.length; i++) {
+                text.append(metric).append("_bucket{algorithm=\"").append(label).append("\",le=\"")
+                        .append(bucketLabel(i)).append("\"} ").append(cumulative[i]).append('\n');
+            }
+            text.append(metric).append("_sum{algorithm=\"").append(label).append("\"} ")
+                    .append(histogram.getSumSeconds()).append('\n');
+            text.append(metric).append("_count{algorithm=\"").append(label).append("\"} ")
+                    .append(cumulative[cumulative.length - 1]).append('\n');
+        }
+    }
+
+    private static String bucketLabel(int i) {
+        return i < LATENCY_BUCKETS.length ? Double.toString(LATENCY_BUCKETS[i]) : "+Inf";
+    }
+
+    private static String escapeJson(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String escapeLabel(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    // Written to a temporary file first and moved into place, so a scraper never
+    // reads a half-written file
+    public void writePrometheus(Path file) throws IOException {
+        write(file, toPrometheus());
+    }
+
+    public void writeJson(Path file) throws IOException {
+        write(file, toJson());
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package maze;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Single top-to-bottom sweep over a StreamingMazeFile that answers the global
+// questions without loading the grid: how many connected regions there are,
+// whether the maze has loops, and how many finish points the entrance reaches.
+//
+// Only the sets touching the current row are kept. Each row gets a fresh
+// union-find over 2 * cols labels: 0..k-1 for the k sets carried down from the
+// row above and cols..2*cols-1 for the row's own cells. A carried set that no
+// cell of the new row joins can never grow again, so it is closed and counted.
+// A passage counts only when the walls on both sides of it are open.
+class StreamingConnectivity {
+
+    private StreamingConnectivity() {
+    }
+
+    public static Report analyze(Path file) throws IOException {
+        try (StreamingMazeFile.RowReader reader = StreamingMazeFile.open(file)) {
+            return analyze(reader);
+        }
+    }
+
+    public static Report analyze(StreamingMazeFile.RowReader reader) throws IOException {
+        int cols = reader.getCols();
+        long start = System.nanoTime();
+
+        byte[] above = new byte[cols];
+        byte[] cells = new byte[cols];
+        int[] aboveLabel = new int[cols];  // carried label of each cell in the row above
+
+        // Per carried label
+        boolean[] carriedStart = new boolean[cols];
+        long[] carriedFinishes = new long[cols];
+        int carried = 0;
+
+        // Per union-find root, rebuilt every row
+        UnionFind sets = new UnionFind(2 * cols);
+        boolean[] rootStart = new boolean[2 * cols];
+        long[] rootFinishes = new long[2 * cols];
+        boolean[] rootContinues = new boolean[2 * cols];
+        int[] relabel = new int[2 * cols];
+
+        long passages = 0, cycles = 0, components = 0, finishCount = 0;
+        long reachableFinishes = 0;
+        boolean startClosed = false;
+
+        for (long row = 0; reader.nextRow(cells); row++) {
+            for (int i = 0; i < 2 * cols; i++) {
+                sets.reset(i);
+                rootStart[i] = false;
+                rootFinishes[i] = 0;
+                rootContinues[i] = false;
+                relabel[i] = -1;
+            }
+
+            // Passages up into the row above, then along the row
+            for (int col = 0; col < cols; col++) {
+                if (row > 0 && (cells[col] & MazeGraph.TOP) == 0 && (above[col] & MazeGraph.BOTTOM) == 0) {
+                    passages++;
+                    if (!sets.union(cols + col, aboveLabel[col])) cycles++;
+                }
+            }
+            for (int col = 0; col < cols - 1; col++) {
+                if ((cells[col] & MazeGraph.RIGHT) == 0 && (cells[col + 1] & MazeGraph.LEFT) == 0) {
+                    passages++;
+                    if (!sets.union(cols + col, cols + col + 1)) cycles++;
+                }
+            }
+
+            // Gather what each merged set contains
+            for (int label = 0; label < carried; label++) {
+                int root = sets.find(label);
+                rootStart[root] |= carriedStart[label];
+                rootFinishes[root] += carriedFinishes[label];
+            }
+            for (int col = 0; col < cols; col++) {
+                int root = sets.find(cols + col);
+                rootContinues[root] = true;
+                if (row == 0 && col == 0) rootStart[root] = true;
+                if (StreamingMazeFile.isFinish(cells[col])) {
+                    rootFinishes[root]++;
+                    finishCount++;
+                }
+            }
+
+            // Sets that did not reach this row are finished regions
+            for (int label = 0; label < carried; label++) {
+                int root = sets.find(label);
+                if (!rootContinues[root]) {
+                    rootContinues[root] = true; // count each closed root once
+                    components++;
+                    if (rootStart[root]) {
+                        startClosed = true;
+                        reachableFinishes = rootFinishes[root];
+                    }
+                }
+            }
+
+            // Compact the surviving sets into labels 0..carried-1 for the next row
+            carried = 0;
+            for (int col = 0; col < cols; col++) {
+                int root = sets.find(cols + col);
+                if (relabel[root] < 0) {
+                    relabel[root] = carried;
+                    carriedStart[carried] = rootStart[root];
+                    carriedFinishes[carried] = rootFinishes[root];
+                    carried++;
+                }
+                aboveLabel[col] = relabel[root];
+            }
+
+            byte[] tmp = above;
+            above = cells;
+            cells = tmp;
+        }
+
+        // Whatever is still open after the last row is closed as well
+        components += carried;
+        for (int label = 0; label < carried && !startClosed; label++) {
+            if (carriedStart[label]) {
+                reachableFinishes = carriedFinishes[label];
+            }
+        }
+
+        return new Report(reader.getRows() * cols, passages, components, cycles,
+                finishCount, reachableFinishes, System.nanoTime() - start);
+    }
+
+    static class Report {
+        final long cells;
+        final long passages;
+        final long components;
+        final long cycles;
+        final long finishCount;
+        final long reachableFinishes;
+        final long elapsedNanos;
+
+        Report(long cells, long passages, long components, long cycles,
+               long finishCount, long reachableFinishes, long elapsedNanos) {
+            this.cells = cells;
+            this.passages = passages;
+            this.components = components;
+            this.cycles = cycles;
+            this.finishCount = finishCount;
+            this.reachableFinishes = reachableFinishes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        // Every cell reachable and exactly one route between any two cells
+        public boolean isPerfect() {
+            return components == 1 && cycles == 0;
+        }
+
+        public boolean isSolvable() {
+            return reachableFinishes > 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d cells, %d passages, %d regions, %d loops, %d/%d finish points reachable, %.1f ms",
+                    cells, passages, components, cycles, reachableFinishes, finishCount, elapsedNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package maze;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+// Row-by-row maze file for grids that do not fit in memory. Rows come from
+// Eller's algorithm and go straight to disk, so writing and reading both need
+// O(cols) memory however many rows there are.
+//
+// Layout: int magic, long rows, int cols, long seed, then rows * cols cell bytes
+// in row-major order. A cell byte is the MazeGraph flag byte (wall bits and
+// FINISH) with the terrain ordinal in bits 5-6.
+//
+// The entrance, finish points and terrain follow MazeGraph.generate exactly, so
+// a file written here holds the same maze as
+// MazeGraph.generate(new EllerGenerator(), seed) for sizes that fit in memory.
+class StreamingMazeFile {
+    static final int MAGIC = 0x4D5A5331; // "MZS1"
+    static final int HEADER_BYTES = 4 + 8 + 4 + 8;
+    static final int TERRAIN_SHIFT = 5;
+    static final int WALL_AND_FINISH_MASK = MazeGraph.ALL_WALLS | MazeGraph.FINISH;
+
+    private static final int IO_BUFFER = 1 << 16;
+    private static final Cell.TerrainType[] TERRAINS = Cell.TerrainType.values();
+
+    private StreamingMazeFile() {
+    }
+
+    public static void write(Path file, long rows, int cols, long seed) throws IOException {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Unsupported maze size: " + rows + "x" + cols);
+        }
+        EllerGenerator.RowCarver carver = new EllerGenerator.RowCarver(rows, cols, seed);
+        Random terrainRandom = new Random(seed ^ MazeGraph.TERRAIN_SEED_SALT);
+        long midRow = rows / 2;
+        byte[] cells = new byte[cols];
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER))) {
+            out.writeInt(MAGIC);
+            out.writeLong(rows);
+            out.writeInt(cols);
+            out.writeLong(seed);
+
+            for (long row = 0; carver.nextRow(cells); row++) {
+                // Entrance, then the three finish points of MazeGraph.setupFinishPoints
+                if (row == 0) {
+                    cells[0] &= (byte) ~MazeGraph.TOP;
+                }
+                if (row == rows - 1) {
+                    cells[cols - 1] &= (byte) ~MazeGraph.BOTTOM;
+                    cells[cols - 1] |= (byte) MazeGraph.FINISH;
+                    cells[0] &= (byte) ~MazeGraph.BOTTOM;
+                    cells[0] |= (byte) MazeGraph.FINISH;
+                }
+                if (row == midRow) {
+                    cells[cols - 1] &= (byte) ~MazeGraph.RIGHT;
+                    cells[cols - 1] |= (byte) MazeGraph.FINISH;
+                }
+
+                for (int col = 0; col < cols; col++) {
+                    int terrain = MazeGraph.randomTerrain(terrainRandom).ordinal();
+                    // Start and all finish points stay default
+                    if ((row == 0 && col == 0) || (cells[col] & MazeGraph.FINISH) != 0) {
+                        terrain = Cell.TerrainType.DEFAULT.ordinal();
+                    }
+                    cells[col] |= (byte) (terrain << TERRAIN_SHIFT);
+                }
+                out.write(cells);
+            }
+        }
+    }
+
+    public static RowReader open(Path file) throws IOException {
+        return new RowReader(file);
+    }
+
+    static int wallBits(byte cell) {
+        return cell & MazeGraph.ALL_WALLS;
+    }
+
+    static boolean isFinish(byte cell) {
+        return (cell & MazeGraph.FINISH) != 0;
+    }
+
+    static Cell.TerrainType terrain(byte cell) {
+        return TERRAINS[(cell >> TERRAIN_SHIFT) & 3];
+    }
+
+    // Sequential reader handing out one row of cell bytes at a time
+    static class RowReader implements Closeable {
+        private final DataInputStream in;
+        private final long rows;
+        private final int cols;
+        private final long seed;
+        private long row;
+
+        private RowReader(Path file) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), IO_BUFFER));
+            try {
+                if (in.readInt() != MAGIC) {
+                    throw new IOException("Not a streaming maze file: " + file);
+                }
+                rows = in.readLong();
+                cols = in.readInt();
+                seed = in.readLong();
+                if (rows <= 0 || cols <= 0) {
+                    throw new IOException("Corrupt maze header: " + rows + "x" + cols);
+                }
+            } catch (IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        public long getRows() { return rows; }
+        public int getCols() { return cols; }
+        public long getSeed() { return seed; }
+
+        // Index of the row the next call to nextRow returns
+        public long getRow() {
+            return row;
+        }
+
+        // Fills cells[0..cols) with the next row; returns false at the end of the maze
+        public boolean nextRow(byte[] cells) throws IOException {
+            if (row >= rows) {
+                return false;
+            }
+            in.readFully(cells, 0, cols);
+            row++;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package maze;
+
+import java.util.Arrays;
+
+// Path index for perfect mazes, where the passages form a spanning tree and every
+// pair of cells is joined by exactly one path. The tree is rooted at cell 0 and
+// walked once in DFS order, recording each cell's parent, depth and the terrain
+// cost summed from the root. The lowest common ancestor of two cells then gives
+// path length and cost in constant time, and the path itself by walking parents.
+//
+// LCA uses the DFS-order variant of the Euler tour: for tin[u] < tin[v] it is the
+// parent of the shallowest cell among order[tin[u] + 1 .. tin[v]]. The range
+// minimum runs on a sparse table over blocks of BLOCK cells with a short scan
+// at either end, which keeps the table to a fraction of an int per cell instead
+// of log n ints per cell. Built once per maze version, like CorridorGraph.
+//
+// Mazes with loops or unreachable cells are not trees; isTree() is false then and
+// none of the queries may be used.
+class TreeIndex {
+    private static final int BLOCK_SHIFT = 5;
+    private static final int BLOCK = 1 << BLOCK_SHIFT;
+
+    private final MazeGraph maze;
+    private final int version;
+    private final boolean tree;
+
+    private int[] parent;
+    private int[] depth;
+    private long[] rootCost; // terrain cost of every cell from the root down to and including the cell
+    private int[] tin;       // position of each cell in DFS order
+    private int[] order;     // cells in DFS order
+    private int[][] blockMin; // blockMin[k][b]: position of the shallowest cell in blocks b .. b + 2^k - 1
+
+    TreeIndex(MazeGraph maze) {
+        this.maze = maze;
+        this.version = maze.getVersion();
+        this.tree = walk();
+        if (tree) {
+            buildBlockTable();
+        } else {
+            parent = depth = tin = order = null;
+            rootCost = null;
+        }
+    }
+
+    // Preorder walk from cell 0; false as soon as a loop or an unreachable cell shows up
+    private boolean walk() {
+        int cells = maze.getCellCount();
+        parent = new int[cells];
+        depth = new int[cells];
+        rootCost = new long[cells];
+        tin = new int[cells];
+        order = new int[cells];
+        Arrays.fill(parent, -2); // -2 marks cells not seen yet
+
+        int[] neighbors = new int[4];
+        IntStack stack = new IntStack(64);
+        parent[0] = -1;
+        rootCost[0] = maze.getCost(0);
+        stack.push(0);
+        int visited = 0;
+        while (!stack.isEmpty()) {
+            int cell = stack.pop();
+            tin[cell] = visited;
+            order[visited++] = cell;
+            int count = maze.getNeighbors(cell, neighbors);
+            for (int i = 0; i < count; i++) {
+                int next = neighbors[i];
+                if (next == parent[cell]) {
+                    continue;
+                }
+                if (parent[next] != -2) {
+                    return false;
+                }
+                parent[next] = cell;
+                depth[next] = depth[cell] + 1;
+                rootCost[next] = rootCost[cell] + maze.getCost(next);
+                stack.push(next);
+            }
+        }
+        return visited == cells;
+    }
+
+    private void buildBlockTable() {
+        int blocks = (order.length + BLOCK - 1) >> BLOCK_SHIFT;
+        int levels = 32 - Integer.numberOfLeadingZeros(blocks);
+        blockMin = new int[levels][];
+        blockMin[0] = new int[blocks];
+        for (int b = 0; b < blocks; b++) {
+            blockMin[0][b] = scanMin(b << BLOCK_SHIFT, Math.min(order.length - 1, ((b + 1) << BLOCK_SHIFT) - 1));
+        }
+        for (int k = 1; k < levels; k++) {
+            int span = 1 << (k - 1);
+            int[] previous = blockMin[k - 1];
+            int[] level = new int[blocks - (1 << k) + 1];
+            for (int b = 0; b < level.length; b++) {
+                level[b] = shallower(previous[b], previous[b + span]);
+            }
+            blockMin[k] = level;
+        }
+    }
+
+    // Position of the shallowest cell among order[from .. to], inclusive
+    private int rangeMin(int from, int to) {
+        int firstBlock = from >> BLOCK_SHIFT;
+        int lastBlock = to >> BLOCK_SHIFT;
+        if (lastBlock - firstBlock < 2) {
+            return scanMin(from, to);
+        }
+        int best = shallower(scanMin(from, ((firstBlock + 1) << BLOCK_SHIFT) - 1),
+                scanMin(lastBlock << BLOCK_SHIFT, to));
+        int lo = firstBlock + 1;
+        int hi = lastBlock - 1;
+        int k = 31 - Integer.numberOfLeadingZeros(hi - lo + 1);
+        best = shallower(best, blockMin[k][lo]);
+        return shallower(best, blockMin[k][hi - (1 << k) + 1]);
+    }
+
+    private int scanMin(int from, int to) {
+        int best = from;
+        for (int i = from + 1; i <= to; i++) {
+            if (depth[order[i]] < depth[order[best]]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private int shallower(int a, int b) {
+        return depth[order[b]] < depth[order[a]] ? b : a;
+    }
+
+    public int lowestCommonAncestor(int a, int b) {
+        if (a == b) {
+            return a;
+        }
+        int from = Math.min(tin[a], tin[b]);
+        int to = Math.max(tin[a], tin[b]);
+        return parent[order[rangeMin(from + 1, to)]];
+    }
+
+    // Number of moves between the two cells
+    public int pathLength(int a, int b) {
+        return depth[a] + depth[b] - 2 * depth[lowestCommonAncestor(a, b)];
+    }
+
+    // Terrain cost of walking from a to b: every cell entered, a itself excluded
+    public long pathCost(int a, int b) {
+        int lca = lowestCommonAncestor(a, b);
+        return rootCost[a] + rootCost[b] - 2 * rootCost[lca] + maze.getCost(lca) - maze.getCost(a);
+    }
+
+    // The cells from a to b inclusive, in O(path length)
+    public int[] path(int a, int b) {
+        int lca = lowestCommonAncestor(a, b);
+        int up = depth[a] - depth[lca];
+        int[] path = new int[up + depth[b] - depth[lca] + 1];
+        int cell = a;
+        for (int i = 0; i <= up; i++) {
+            path[i] = cell;
+            cell = parent[cell];
+        }
+        cell = b;
+        for (int i = path.length - 1; i > up; i--) {
+            path[i] = cell;
+            cell = parent[cell];
+        }
+        return path;
+    }
+
+    public boolean isTree() {
+        return tree;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,43 @@
+package maze;
+
+// Answers queries on perfect mazes from the TreeIndex: the cost to every goal is
+// an O(1) lookup, and only the cheapest path is written out, in O(path length).
+// Nothing is explored. Mazes with loops fall back to a regular DialSolver search.
+class TreeSolver extends MazeSolver {
+    private final DialSolver fallback;
+
+    public TreeSolver(MazeGraph maze) {
+        super(maze);
+        this.fallback = new DialSolver(maze);
+    }
+
+    @Override
+    public boolean solve(SearchContext ctx, int start, int[] goals) {
+        TreeIndex index = maze.getTreeIndex();
+        if (!index.isTree()) {
+            return fallback.solve(ctx, start, goals);
+        }
+
+        ctx.begin(goals);
+        if (goals.length == 0) {
+            return false;
+        }
+        int best = goals[0];
+        long bestCost = index.pathCost(start, best);
+        for (int i = 1; i < goals.length; i++) {
+            long cost = index.pathCost(start, goals[i]);
+            if (cost < bestCost) {
+                best = goals[i];
+                bestCost = cost;
+            }
+        }
+
+        int[] path = index.path(start, best);
+        ctx.retrace(start, -1, 0);
+        for (int i = 1; i < path.length; i++) {
+            ctx.retrace(path[i], path[i - 1], ctx.getDistance(path[i - 1]) + maze.getCost(path[i]));
+        }
+        ctx.setGoal(best);
+        return true;
+    }
+}
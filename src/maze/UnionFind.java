@@ -0,0 +1,46 @@
+package maze;
+
+// Disjoint sets over 0..size-1 with union by size and path halving
+class UnionFind {
+    private final int[] parent;
+    private final int[] size;
+
+    public UnionFind(int size) {
+        this.parent = new int[size];
+        this.size = new int[size];
+        for (int i = 0; i < size; i++) {
+            reset(i);
+        }
+    }
+
+    // Turns element back into a singleton; only safe once nothing points at it
+    public void reset(int element) {
+        parent[element] = element;
+        size[element] = 1;
+    }
+
+    public int find(int element) {
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+        return element;
+    }
+
+    // Returns false if both were already in the same set
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        if (size[rootA] < size[rootB]) {
+            int tmp = rootA;
+            rootA = rootB;
+            rootB = tmp;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        return true;
+    }
+}